@@ -172,6 +172,28 @@ create table event
             on delete cascade
 );
 
+create table conversation
+(
+    conversation_id   int auto_increment
+        primary key,
+    user_low_id       int           not null comment '참가자 중 ID가 작은 사용자',
+    user_high_id      int           not null comment '참가자 중 ID가 큰 사용자',
+    last_message_id   int           null comment '마지막 쪽지 ID',
+    last_message_at   datetime      null,
+    low_unread_count  int default 0 not null,
+    high_unread_count int default 0 not null,
+    created_at        datetime      null,
+    constraint conversation_user_low_id_user_high_id_uindex
+        unique (user_low_id, user_high_id),
+    constraint conversation_user_user_id_fk
+        foreign key (user_low_id) references user (user_id),
+    constraint conversation_user_user_id_fk_2
+        foreign key (user_high_id) references user (user_id)
+);
+
+create index conversation_user_high_id_index
+    on conversation (user_high_id);
+
 create table message
 (
     message_id  int auto_increment
@@ -182,12 +204,29 @@ create table message
     content     mediumtext                         not null,
     is_read     tinyint  default 0                 not null,
     created_at  datetime default CURRENT_TIMESTAMP null,
+    conversation_id int                            null comment '대화방 ID',
+    deleted_by_sender   tinyint default 0          not null comment '발신자 쪽 삭제 여부',
+    deleted_by_receiver tinyint default 0          not null comment '수신자 쪽 삭제 여부',
     constraint message_user_user_id_fk
         foreign key (sender_id) references user (user_id),
     constraint message_user_user_id_fk_2
-        foreign key (receiver_id) references user (user_id)
+        foreign key (receiver_id) references user (user_id),
+    constraint message_conversation_conversation_id_fk
+        foreign key (conversation_id) references conversation (conversation_id)
 );
 
+create index message_conversation_id_message_id_index
+    on message (conversation_id, message_id);
+
+create index message_receiver_id_deleted_by_receiver_created_at_index
+    on message (receiver_id, deleted_by_receiver, created_at);
+
+create index message_sender_id_deleted_by_sender_created_at_index
+    on message (sender_id, deleted_by_sender, created_at);
+
+create index message_deleted_by_sender_deleted_by_receiver_index
+    on message (deleted_by_sender, deleted_by_receiver);
+
 create table photo
 (
     photo_id   int auto_increment
@@ -213,6 +252,8 @@ create table post
     title      varchar(200)                       not null,
     content    mediumtext                         not null,
     view_count int      default 0                 not null,
+    like_count    int   default 0                 not null,
+    comment_count int   default 0                 not null,
     created_at datetime default CURRENT_TIMESTAMP not null,
     updated_at datetime                           null on update CURRENT_TIMESTAMP,
     constraint post_board_board_id_fk
@@ -221,6 +262,9 @@ create table post
         foreign key (user_id) references user (user_id)
 );
 
+create index post_board_created_at_post_id_index
+    on post (board_id, created_at, post_id);
+
 create table attachment_file
 (
     attachment_file_id int auto_increment
@@ -311,12 +355,17 @@ create table notification
 (
     notification_id  int auto_increment
         primary key,
-    user_id          int                                not null,
+    user_id          int                                null comment '수신자 (null이면 전체 알림)',
+    sender_id        int                                null comment '전체 알림 작성자',
     title            varchar(150)                       not null,
     content          mediumtext                         not null,
     target_url       varchar(500)                       null,
     is_read          tinyint  default 0                 not null,
     created_at       datetime default CURRENT_TIMESTAMP null,
+    notification_type varchar(30)                      not null,
+    aggregate_count  int      default 1                 not null comment '합쳐진 알림 수 (좋아요/댓글)',
+    last_actor_id    int                                null comment '마지막으로 합쳐진 알림의 발생 사용자',
+    updated_at       datetime                           null comment '마지막으로 합쳐진 시간',
     post_id          int                                null,
     comment_id       int                                null,
     message_id       int                                null,
@@ -342,6 +391,67 @@ create table notification
         foreign key (student_group_id) references student_group (student_group_id)
             on delete cascade,
     constraint notification_user_user_id_fk
+        foreign key (user_id) references user (user_id)
+            on delete cascade,
+    constraint notification_user_sender_id_fk
+        foreign key (sender_id) references user (user_id)
+            on delete set null
+);
+
+create index notification_user_id_is_read_index
+    on notification (user_id, is_read, notification_id);
+
+create index notification_updated_at_index
+    on notification (updated_at);
+
+create table notification_archive
+(
+    notification_id   int                    not null comment '원본 알림 ID'
+        primary key,
+    user_id           int                    null,
+    sender_id         int                    null,
+    title             varchar(150)           not null,
+    content           mediumtext             not null,
+    target_url        varchar(500)           null,
+    is_read           tinyint                not null,
+    created_at        datetime               null,
+    notification_type varchar(30)            not null,
+    aggregate_count   int                    not null,
+    post_id           int                    null,
+    comment_id        int                    null,
+    message_id        int                    null,
+    student_group_id  int                    null,
+    event_id          int                    null,
+    reservation_id    int                    null,
+    archived_at       datetime               not null comment '보관 테이블로 옮긴 시간'
+);
+
+create index notification_archive_archived_at_index
+    on notification_archive (archived_at);
+
+create table notification_outbox
+(
+    outbox_id       int auto_increment
+        primary key,
+    event_kind      varchar(20)   not null comment 'CREATED / UPDATED / BROADCAST',
+    notification_id int           not null,
+    ordering_key    int           not null comment '순서를 지킬 단위 (수신자 ID, 전체 알림은 0)',
+    attempts        int default 0 not null,
+    next_attempt_at datetime      null comment '다음 전달 시도 시각',
+    last_error      varchar(500)  null,
+    failed_at       datetime      null comment '전달을 포기한 시각',
+    created_at      datetime      null
+);
+
+create index notification_outbox_ordering_key_index
+    on notification_outbox (ordering_key, next_attempt_at);
+
+create table notification_read_marker
+(
+    user_id           int           not null
+        primary key,
+    last_broadcast_id int default 0 not null comment '읽음 처리한 마지막 전체 알림 ID',
+    constraint notification_read_marker_user_user_id_fk
         foreign key (user_id) references user (user_id)
             on delete cascade
 );
@@ -3,8 +3,10 @@ package net.dsa.scitHub;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableAsync // 기동 후 검색 색인 구성 등 백그라운드 작업을 위한 어노테이션
 @EnableScheduling // 스케줄링 기능을 위한 어노테이션
 @EnableJpaAuditing // @createdAt, @updatedAt 사용을 위한JPA Auditing 활성화
 @SpringBootApplication
@@ -7,11 +7,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -20,14 +23,22 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dsa.scitHub.dto.CommentDTO;
+import net.dsa.scitHub.dto.FanoutJobDTO;
 import net.dsa.scitHub.dto.MenuItem;
+import net.dsa.scitHub.dto.MessageBulkJobDTO;
+import net.dsa.scitHub.dto.MessageBulkSendRequestDTO;
 import net.dsa.scitHub.dto.MypageDTO;
+import net.dsa.scitHub.dto.PostCursorPageDTO;
 import net.dsa.scitHub.dto.PostDTO;
 import net.dsa.scitHub.dto.PostDetailDTO;
+import net.dsa.scitHub.dto.RetentionReportDTO;
 import net.dsa.scitHub.dto.UserManageDTO;
 import net.dsa.scitHub.entity.board.Post;
+import net.dsa.scitHub.service.AnnouncementFanoutService;
 import net.dsa.scitHub.service.BoardService;
 import net.dsa.scitHub.service.CommunityService;
+import net.dsa.scitHub.service.MessageBulkSendService;
+import net.dsa.scitHub.service.NotificationRetentionService;
 import net.dsa.scitHub.service.PostService;
 import net.dsa.scitHub.service.UserService;
 
@@ -41,6 +52,9 @@ public class AdminController {
     private final BoardService bs;
     private final UserService us;
     private final CommunityService cs;
+    private final AnnouncementFanoutService afs;
+    private final NotificationRetentionService nrs;
+    private final MessageBulkSendService mbs;
 
 	@Value("${file.uploadPath}")
 	String uploadPath;			// 첨부파일 저장 경로
@@ -122,6 +136,106 @@ public class AdminController {
         return "admin/announcement";
     }
 
+    /**
+     * 운영실 공지사항 커서 기반 목록 (무한 스크롤용)
+     * @param boardName 게시판 이름
+     * @param cursor 이전 응답의 커서 (없으면 첫 페이지)
+     * @param direction next: 더 오래된 글, prev: 더 최신 글
+     * @param withTotal 근사 전체 글 수 포함 여부
+     * @return 게시글 목록과 이전/다음 커서
+     */
+    @GetMapping("announcement/cursor")
+    @ResponseBody
+    public ResponseEntity<PostCursorPageDTO> announcementCursor(
+        @RequestParam(name = "boardName", defaultValue = "announcement") String boardName,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "direction", defaultValue = "next") String direction,
+        @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal
+    ) {
+        int boardId = bs.getBoardIdFromName(boardName);
+        if (boardId == -1) {
+            log.warn("존재하지 않는 게시판 이름: {}", boardName);
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(cs.findPostsByBoardWithCursor(boardId, cursor, direction, pageSize, withTotal));
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 커서 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 최근 전체 알림(공지사항, 공개 일정) 발송 작업 상태 (최신순)
+     * @return 작업별 접속 중 대상 수 / 발송 / 실패 건수
+     */
+    @GetMapping("announcement/fanout")
+    @ResponseBody
+    public ResponseEntity<List<FanoutJobDTO>> announcementFanoutJobs() {
+        return ResponseEntity.ok(afs.getRecentJobs());
+    }
+
+    /**
+     * 마지막 알림 보관 기간 정리 결과 (정책별 처리 건수 / 걸린 시간)
+     * @return 정책별 정리 결과
+     */
+    @GetMapping("notification/retention")
+    @ResponseBody
+    public ResponseEntity<List<RetentionReportDTO>> notificationRetentionReport() {
+        return ResponseEntity.ok(nrs.getLastReport());
+    }
+
+    /**
+     * 기수 또는 학생 그룹 전체에 쪽지 일괄 발송 (작업 등록 후 바로 응답, 진행 상황은 작업 ID로 조회)
+     * @param request 발송 대상(cohortNo 또는 studentGroupId)과 쪽지 제목/내용
+     * @param userDetails 현재 로그인한 사용자 정보 (발신자)
+     * @return 202 Accepted와 등록된 작업 (수신자 목록 포함), 요청이 올바르지 않으면 400과 오류 메시지
+     */
+    @PostMapping("messages/bulk")
+    @ResponseBody
+    public ResponseEntity<?> sendBulkMessage(
+        @RequestBody MessageBulkSendRequestDTO request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            return ResponseEntity.accepted().body(mbs.submit(request, userDetails.getUsername()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 쪽지 일괄 발송 작업 상태 (최신순)
+     * @return 작업별 대상 / 발송 / 실패 / 알림 건수
+     */
+    @GetMapping("messages/bulk")
+    @ResponseBody
+    public ResponseEntity<List<MessageBulkJobDTO>> bulkMessageJobs() {
+        return ResponseEntity.ok(mbs.getRecentJobs());
+    }
+
+    /**
+     * 쪽지 일괄 발송 작업 상태 (수신자별 결과 포함)
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황, 없으면 404
+     */
+    @GetMapping("messages/bulk/{jobId}")
+    @ResponseBody
+    public ResponseEntity<MessageBulkJobDTO> bulkMessageJob(@PathVariable("jobId") Long jobId) {
+        MessageBulkJobDTO job = mbs.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 게시판 목록 다시 읽기 (DB에서 게시판을 추가/수정한 뒤 호출)
+     * @return 게시판 수
+     */
+    @PostMapping("boards/refresh")
+    @ResponseBody
+    public ResponseEntity<Integer> refreshBoards() {
+        return ResponseEntity.ok(bs.refreshBoards());
+    }
+
     /**
      * 공지사항 글 작성 페이지
      * @return 뷰 이름
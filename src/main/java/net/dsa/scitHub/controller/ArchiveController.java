@@ -27,9 +27,9 @@ import net.dsa.scitHub.dto.CompanyReviewDTO;
 import net.dsa.scitHub.dto.MenuItem;
 import net.dsa.scitHub.enums.CompanyType;
 import net.dsa.scitHub.enums.Industry;
-import net.dsa.scitHub.repository.user.UserRepository;
 import net.dsa.scitHub.service.CompanyReviewService;
 import net.dsa.scitHub.service.CompanyService;
+import net.dsa.scitHub.service.CurrentUserProvider;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -100,7 +100,7 @@ public class ArchiveController {
         return "archive/companyList"; // templates/archive/companyList.html
     }
 
-    private final UserRepository ur;
+    private final CurrentUserProvider cu;
 
     /**
      * 회사 리뷰 페이지 요청
@@ -123,7 +123,7 @@ public class ArchiveController {
 
         // 현재 로그인한 사용자의 ID를 가져옴.
         // 비로그인 상태(userDetails == null)를 고려하여 null을 허용
-        Integer currentUserId = (userDetails != null) ? ur.findByUsername(userDetails.getUsername()).get().getUserId() : null;
+        Integer currentUserId = (userDetails != null) ? cu.getUserId(userDetails.getUsername()) : null;
 
         //회사 정보 가져오기
         CompanyDTO company = cs.selectById(companyId);
@@ -188,7 +188,7 @@ public class ArchiveController {
 
         try {
             // 현재 로그인한 사용자의 ID 조회
-            Integer currentUserId = ur.findByUsername(userDetails.getUsername()).get().getUserId();
+            Integer currentUserId = cu.getUserId(userDetails.getUsername());
             // 서비스 레이어를 호출하여 리뷰 삭제 (작성자 본인인지 권한 확인 포함)
             crs.deleteReview(reviewId, currentUserId);
             return ResponseEntity.ok("レビューが正常に削除されました.");
@@ -27,11 +27,12 @@ import net.dsa.scitHub.dto.BoardDTO;
 import net.dsa.scitHub.dto.CourseDTO;
 import net.dsa.scitHub.dto.CourseReviewDTO;
 import net.dsa.scitHub.dto.MenuItem;
+import net.dsa.scitHub.dto.PostCursorPageDTO;
 import net.dsa.scitHub.dto.PostDTO;
 import net.dsa.scitHub.service.CommunityService;
 import net.dsa.scitHub.service.CourseReviewService;
 import net.dsa.scitHub.service.CourseService;
-import net.dsa.scitHub.repository.user.UserRepository;
+import net.dsa.scitHub.service.CurrentUserProvider;
 
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -39,6 +40,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityNotFoundException;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -51,7 +54,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class CommunityController {
 
     private final CommunityService cs;
-    private final UserRepository ur;
+    private final CurrentUserProvider cu;
 
     @Value("${board.pageSize}")
 	int pageSize;				// 페이지당 글 수
@@ -168,6 +171,39 @@ public class CommunityController {
         }
     }
 
+    /**
+     * 커서 기반 게시글 목록 조회 (무한 스크롤용)
+     * @param boardId
+     * @param cursor 이전 응답의 nextCursor/prevCursor (없으면 첫 페이지)
+     * @param direction next: 더 오래된 글, prev: 더 최신 글
+     * @param size
+     * @param withTotal 근사 전체 글 수 포함 여부
+     * @return
+     */
+    @GetMapping("getBoardCursor")
+    public ResponseEntity<PostCursorPageDTO> getPostsByBoardWithCursor(
+        @RequestParam("boardId") Integer boardId,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "direction", defaultValue = "next") String direction,
+        @RequestParam(name = "size", defaultValue = "10") int size,
+        @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+
+        log.debug("커서 목록 요청 : boardId={}, cursor={}, direction={}", boardId, cursor, direction);
+
+        try {
+            // 한 번에 너무 많이 가져가지 않도록 상한 적용
+            int limit = Math.min(Math.max(size, 1), 50);
+            return ResponseEntity.ok(cs.findPostsByBoardWithCursor(boardId, cursor, direction, limit, withTotal));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서만 400으로 처리하고, 그 외 오류는 공통 오류 처리로 넘김
+            log.debug("잘못된 커서 요청 : {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (EntityNotFoundException e) {
+            log.debug("커서 목록 조회 대상 게시판 없음 : boardId={}", boardId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
 
 
     // 게시글 작성 관련 ----------------------------------------------------------------------------------------
@@ -475,7 +511,7 @@ public class CommunityController {
         @AuthenticationPrincipal UserDetails userDetails
     ) {
         // 현재 로그인한 사용자의 ID를 가져옴. 비로그인 상태일 수 있으므로 null 체크가 필요
-        Integer currentUserId = (userDetails != null) ? ur.findByUsername(userDetails.getUsername()).get().getUserId() : null;
+        Integer currentUserId = (userDetails != null) ? cu.getUserId(userDetails.getUsername()) : null;
 
         CourseDTO course = ccs.selectById(courseId);
         // 서비스 메서드에 현재 사용자 ID를 전달
@@ -497,7 +533,7 @@ public class CommunityController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("ログインが必要です。");
         }
         try {
-            Integer currentUserId = ur.findByUsername(userDetails.getUsername()).get().getUserId();
+            Integer currentUserId = cu.getUserId(userDetails.getUsername());
             crs.deleteReview(reviewId, currentUserId);
             return ResponseEntity.ok().build();
         } catch (IllegalStateException e) {
@@ -7,6 +7,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.thymeleaf.context.LazyContextVariable;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -19,20 +20,20 @@ import net.dsa.scitHub.service.UserService;
 /**
  * 전역 모델 주입
  * - 모든 뷰 렌더링 시 공통으로 필요한 값들을 내려줍니다.
+ * - 뷰를 반환하는 컨트롤러에만 적용 (JSON만 반환하는 CalendarApiController, CkEditor5Controller,
+ *   MessageController, NotificationReadController는 제외)
+ * - 사용자/알림 값은 지연 변수로 넣어 템플릿이 실제로 참조할 때만 조회
+ *   (같은 컨트롤러의 @ResponseBody 요청이나 리다이렉트에서는 조회하지 않음)
  */
 @ControllerAdvice(assignableTypes = {
     AdminController.class,
     ArchiveController.class,
-    CalendarApiController.class,
     CalendarController.class,
-    CkEditor5Controller.class,
     ClassroomController.class,
     CommunityController.class,
     HomeController.class,
-    MessageController.class,
     MypageController.class,
-    NotificationReadController.class,
-    ReservationApiController.class,
+    ReservationApiController.class,     // 예약 모달 조각
     UserController.class
 })
 @RequiredArgsConstructor
@@ -43,7 +44,7 @@ public class GlobalModel {
     private final NotificationService ns;
 
     /**
-     * 현재 로그인 사용자의 최신 정보 및 알림 데이터를 모든 모델에 주입
+     * 현재 로그인 사용자의 최신 정보 및 알림 데이터를 모든 모델에 주입 (템플릿에서 참조할 때 조회)
      */
     @ModelAttribute
     public void addCommonAttributes(Model model, @AuthenticationPrincipal UserDetails user) {
@@ -51,22 +52,57 @@ public class GlobalModel {
             return; // 로그인 안 된 페이지 대응
         }
 
-        try {
-            MypageDTO currentUserDTO = us.getMemberInfo(user.getUsername());
-            log.debug("현재 로그인 사용자: {}", currentUserDTO);
-            model.addAttribute("currentUser", currentUserDTO);
+        // 한 요청 안에서는 한 번만 조회 (LazyContextVariable이 값을 보관)
+        LazyContextVariable<MypageDTO> currentUser = new LazyContextVariable<>() {
+            @Override
+            protected MypageDTO loadValue() {
+                try {
+                    MypageDTO currentUserDTO = us.getMemberInfo(user.getUsername());
+                    log.debug("현재 로그인 사용자: {}", currentUserDTO);
+                    return currentUserDTO;
+                } catch (Exception e) {
+                    log.warn("글로벌 모델 주입 중 오류 발생", e);
+                    return null;
+                }
+            }
+        };
+        model.addAttribute("currentUser", currentUser);
 
-            if (currentUserDTO != null) {
-                long unreadCount = ns.getUnreadNotificationCount(currentUserDTO.getUserId());
-                List<NotificationDTO> notifications = ns.getRecentNotifications(currentUserDTO.getUserId(), 10);
+        model.addAttribute("unreadCount", new LazyContextVariable<Long>() {
+            @Override
+            protected Long loadValue() {
+                MypageDTO currentUserDTO = currentUser.getValue();
+                if (currentUserDTO == null) {
+                    return null;
+                }
+                try {
+                    long unreadCount = ns.getUnreadNotificationCount(currentUserDTO.getUserId());
+                    log.debug("알림 데이터 주입됨: unreadCount={}", unreadCount);
+                    return unreadCount;
+                } catch (Exception e) {
+                    log.warn("글로벌 모델 주입 중 오류 발생", e);
+                    return null;
+                }
+            }
+        });
 
-                model.addAttribute("unreadCount", unreadCount);
-                model.addAttribute("notifications", notifications);
-                log.debug("알림 데이터 주입됨: unreadCount={}, notificationSize={}", unreadCount, notifications.size());
+        model.addAttribute("notifications", new LazyContextVariable<List<NotificationDTO>>() {
+            @Override
+            protected List<NotificationDTO> loadValue() {
+                MypageDTO currentUserDTO = currentUser.getValue();
+                if (currentUserDTO == null) {
+                    return null;
+                }
+                try {
+                    List<NotificationDTO> notifications = ns.getRecentNotifications(currentUserDTO.getUserId(), 10);
+                    log.debug("알림 데이터 주입됨: notificationSize={}", notifications.size());
+                    return notifications;
+                } catch (Exception e) {
+                    log.warn("글로벌 모델 주입 중 오류 발생", e);
+                    return null;
+                }
             }
-        } catch (Exception e) {
-            log.warn("글로벌 모델 주입 중 오류 발생", e);
-        }
+        });
     }
 
     /**
@@ -1,6 +1,8 @@
 package net.dsa.scitHub.controller;
 
 import lombok.RequiredArgsConstructor;
+import net.dsa.scitHub.dto.ConversationDTO;
+import net.dsa.scitHub.dto.ConversationPageDTO;
 import net.dsa.scitHub.dto.MessageCreateRequestDto;
 import net.dsa.scitHub.dto.MessageResponseDto;
 import net.dsa.scitHub.service.MessageService;
@@ -15,6 +17,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/mypage/api/messages")
@@ -89,6 +92,40 @@ public class MessageController {
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * 현재 로그인한 사용자의 대화방 목록을 조회합니다. (마지막 쪽지 최신순)
+     *
+     * @param userDetails UserDetails - 현재 로그인한 사용자 정보
+     * @param size        int - 최대 조회 건수
+     * @return ResponseEntity<List<ConversationDTO>> - 대화방 목록
+     */
+    @GetMapping("/conversations")
+    public ResponseEntity<List<ConversationDTO>> getConversations(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(messageService.getConversations(userDetails.getUsername(), size));
+    }
+
+    /**
+     * 상대방과의 대화 내역을 조회합니다. (최신 쪽지부터, 이전 내역은 nextCursor를 before로 전달)
+     *
+     * @param otherUsername String - 상대방 아이디
+     * @param userDetails   UserDetails - 현재 로그인한 사용자 정보
+     * @param before        Integer - 이 쪽지 ID보다 오래된 쪽지만 조회 (없으면 최신부터)
+     * @param size          int - 최대 조회 건수
+     * @return ResponseEntity<ConversationPageDTO> - 대화 내역 한 페이지
+     */
+    @GetMapping("/conversations/{otherUsername}")
+    public ResponseEntity<ConversationPageDTO> getConversation(
+            @PathVariable("otherUsername") String otherUsername,
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "before", required = false) Integer before,
+            @RequestParam(value = "size", defaultValue = "30") int size
+    ) {
+        return ResponseEntity.ok(messageService.getConversation(userDetails.getUsername(), otherUsername, before, size));
+    }
+
     /**
      * 메시지 한 건을 상세 조회합니다.
      *
@@ -137,4 +174,18 @@ public class MessageController {
         Long count = messageService.countUnreadMessages(receiverUsername);
         return ResponseEntity.ok(count);
     }
+
+    /**
+     * 현재 로그인한 사용자가 받은 메시지를 모두 읽음으로 변경합니다.
+     *
+     * @param userDetails UserDetails - 현재 로그인한 사용자 정보
+     * @return ResponseEntity<Integer> - 읽음 처리된 메시지 수
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<Integer> markAllAsRead(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        String receiverUsername = userDetails.getUsername();
+        return ResponseEntity.ok(messageService.markAllAsRead(receiverUsername));
+    }
 }
@@ -1,17 +1,24 @@
 package net.dsa.scitHub.controller;
 
+import java.util.List;
+
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.NotificationDTO;
 import net.dsa.scitHub.repository.board.SseEmitterRepository;
 import net.dsa.scitHub.service.NotificationService;
+import net.dsa.scitHub.service.SseSender;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,46 +26,103 @@ import net.dsa.scitHub.service.NotificationService;
 public class NotificationController {
 
     private final NotificationService ns;
-    private final SseEmitterRepository ser;
+    private final SseSender sender;
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 1시간
+    private static final int REPLAY_LIMIT = 50;                     // 재연결 시 재전송할 최대 알림 수
+    private static final long RECONNECT_MILLIS = 3000L;             // 브라우저 재연결 대기 시간
 
     /**
      * SSE 구독 엔드포인트
+     * - 재연결 시 브라우저가 보내는 Last-Event-ID(마지막으로 받은 알림 ID) 이후의 알림을 먼저 재전송
+     * - 첫 연결은 화면에 그려진 마지막 알림 ID를 lastEventId 파라미터로 받음
      * @param userId 현재 로그인한 사용자의 ID (AuthenticationPrincipal을 통해 주입)
+     * @param lastEventIdHeader 브라우저 재연결 시 Last-Event-ID 헤더
+     * @param lastEventIdParam 첫 연결 시 화면 기준 마지막 알림 ID
      * @return SseEmitter - 서버에서 클라이언트로 이벤트를 푸시하기 위한 객체
      */
     @GetMapping(value = "/notifications/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal(expression = "userId") Integer userId) {
+    public SseEmitter subscribe(
+        @AuthenticationPrincipal(expression = "userId") Integer userId,
+        @RequestHeader(name = "Last-Event-ID", required = false) String lastEventIdHeader,
+        @RequestParam(name = "lastEventId", required = false) String lastEventIdParam
+    ) {
         if (userId == null) {
             throw new IllegalArgumentException("로그인이 필요한 서비스입니다.");
         }
 
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        ser.save(userId, emitter);
-
-        emitter.onCompletion(() -> ser.deleteById(userId));
-        emitter.onTimeout(() -> ser.deleteById(userId));
+        // 탭/기기마다 별도 연결로 등록 (기존 연결을 덮어쓰지 않음, Emitter가 끝나면 자동 제거)
+        String connectionId = sender.open(userId, emitter);
+        SseEmitterRepository.Connection connection = new SseEmitterRepository.Connection(userId, connectionId, emitter);
 
         try {
-            emitter.send(SseEmitter.event().name("connect").data("SSE 연결 성공 [userId=" + userId + "]"));
+            // 연결 이벤트와 재전송도 전송 대기열을 거치므로 실시간 알림과 순서가 섞이지 않음
+            sender.send(connection, SseEmitter.event().name("connect").reconnectTime(RECONNECT_MILLIS)
+                .data("SSE 연결 성공 [userId=" + userId + ", connectionId=" + connectionId + "]"));
+
+            // 연결을 먼저 등록한 뒤 재전송하므로 빈틈은 없고, 겹치는 알림은 클라이언트가 ID로 걸러냄
+            Integer lastId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+            if (lastId != null) {
+                // 이후 합쳐진 알림(이전 ID)을 보내도 이벤트 ID가 클라이언트가 받은 ID보다 작아지지 않도록 기준 지정
+                sender.resumeFrom(connection, lastId);
+                List<NotificationDTO> missed = ns.getNotificationsAfter(userId, lastId, REPLAY_LIMIT);
+                for (NotificationDTO notificationDTO : missed) {
+                    sender.sendNotification(connection, notificationDTO.getNotificationId(), ns.toEvent(notificationDTO));
+                }
+                log.debug("놓친 알림 재전송 [userId={}, lastEventId={}, {}건]", userId, lastId, missed.size());
+            }
         } catch (Exception e) {
-            log.error("SSE 연결 중 오류 발생 [userId={}]: {}", userId, e.getMessage());
+            log.error("SSE 연결 중 오류 발생 [userId={}, connectionId={}]: {}", userId, connectionId, e.getMessage());
             // 연결에 실패하면 Emitter를 제거
-            ser.deleteById(userId);
+            sender.discard(connection);
         }
 
         return emitter;
     }
 
+    /** 이벤트 ID 문자열을 알림 ID로 변환 (형식이 잘못되면 null) */
+    private Integer parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(eventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Last-Event-ID: {}", eventId);
+            return null;
+        }
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     * @param userId 현재 로그인한 사용자의 ID
+     * @return 읽음으로 바뀐 알림 수
+     */
     @PostMapping("/notifications/read/all")
-    public ResponseEntity<Void> markAllAsRead(@AuthenticationPrincipal(expression = "userId") Integer userId) {
+    public ResponseEntity<Integer> markAllAsRead(@AuthenticationPrincipal(expression = "userId") Integer userId) {
         if (userId == null) {
             return ResponseEntity.status(401).build();
         }
 
-        ns.markAllAsRead(userId);
+        return ResponseEntity.ok(ns.markAllAsRead(userId));
+    }
+
+    /**
+     * 특정 알림 ID 이하의 알림 읽음 처리 (읽지 않은 알림이 많을 때 나눠서 처리)
+     * @param userId 현재 로그인한 사용자의 ID
+     * @param notificationId 읽음 처리할 마지막 알림 ID
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @PostMapping("/notifications/read/upTo/{notificationId}")
+    public ResponseEntity<Integer> markReadUpTo(
+        @AuthenticationPrincipal(expression = "userId") Integer userId,
+        @PathVariable("notificationId") Integer notificationId
+    ) {
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
 
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(ns.markReadUpTo(userId, notificationId));
     }
 }
@@ -1,6 +1,7 @@
 package net.dsa.scitHub.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,11 +18,16 @@ public class NotificationReadController {
     private final NotificationService ns;
 
     @PostMapping("/notifications/read/{notificationId}")
-    public ResponseEntity<Void> markAsRead(@PathVariable("notificationId") Integer notificationId) {
+    public ResponseEntity<Void> markAsRead(
+        @AuthenticationPrincipal(expression = "userId") Integer userId,
+        @PathVariable("notificationId") Integer notificationId) {
         log.debug("notificationId가 {}로 설정되었습니다.", notificationId);
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
 
-        // 알림을 '읽음' 상태로 업데이트
-        ns.markAsRead(notificationId);
+        // 알림을 '읽음' 상태로 업데이트 (전체 알림이면 사용자의 읽음 위치를 이동)
+        ns.markAsRead(userId, notificationId);
 
         // 성공적으로 처리되었음을 알리는 200 OK 응답 반환
         return ResponseEntity.ok().build();
@@ -0,0 +1,25 @@
+package net.dsa.scitHub.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쪽지 대화방 요약 (대화방 목록용, 조회한 사용자 기준)
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationDTO {
+    private Integer conversationId;
+    private Integer otherUserId;
+    private String otherUsername;
+    private String otherName;
+    private Integer lastMessageId;
+    private LocalDateTime lastMessageAt;
+    private Integer unreadCount;        // 조회한 사용자가 읽지 않은 쪽지 수
+}
@@ -0,0 +1,22 @@
+package net.dsa.scitHub.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋(커서) 방식 대화 내역 응답 (최신 쪽지부터)
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationPageDTO {
+    private ConversationDTO conversation;
+    private List<MessageResponseDto> messages;
+    private Integer nextCursor;     // 다음(더 오래된) 페이지 기준 쪽지 ID, 없으면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,25 @@
+package net.dsa.scitHub.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 전체 알림 실시간 발송 작업 진행 상황 (운영실 조회용)
+ */
+@Data
+@Builder
+public class FanoutJobDTO {
+    private Long jobId;
+    private Integer notificationId;     // 저장된 전체 알림 ID
+    private String notificationType;    // NEW_ANNOUNCEMENT, NEW_EVENT
+    private String subject;             // 알림 내용 (게시판 - 게시글 제목 / 일정 제목)
+    private String status;              // QUEUED, RUNNING, DONE, FAILED
+    private int connectedRecipients;    // 발송 시점에 접속 중이던 수신자 수
+    private int pushed;                 // 실시간 발송 완료 수
+    private int pushFailed;             // 실시간 발송 실패 수
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,42 @@
+package net.dsa.scitHub.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 쪽지 일괄 발송 작업 진행 상황 (운영실 조회용)
+ */
+@Data
+@Builder
+public class MessageBulkJobDTO {
+    private Long jobId;
+    private String target;              // 발송 대상 (cohort:기수 / group:학생 그룹 ID)
+    private String title;               // 쪽지 제목
+    private String status;              // QUEUED, RUNNING, DONE, FAILED
+    private int total;                  // 대상 수신자 수
+    private int sent;                   // 저장된 쪽지 수
+    private int failed;                 // 저장 실패 수
+    private int notified;               // 알림 등록 수
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<Recipient> recipients; // 수신자별 결과 (목록 조회에서는 생략)
+
+    /**
+     * 수신자별 발송 결과
+     */
+    @Data
+    @Builder
+    public static class Recipient {
+        private Integer userId;
+        private String username;
+        private String name;
+        private String status;          // PENDING, SENT, FAILED
+        private Integer messageId;      // 저장된 쪽지 ID
+        private boolean notified;       // 알림 등록 여부
+        private String error;           // 실패 사유
+    }
+}
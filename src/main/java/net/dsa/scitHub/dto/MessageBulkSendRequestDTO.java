@@ -0,0 +1,18 @@
+package net.dsa.scitHub.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 쪽지 일괄 발송 요청 (운영실, 기수 또는 학생 그룹 중 하나를 지정)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MessageBulkSendRequestDTO {
+    private Integer cohortNo;           // 대상 기수
+    private Integer studentGroupId;     // 대상 학생 그룹
+    private String title;
+    private String content;
+}
@@ -15,6 +15,7 @@ public class NotificationDTO {
     private String targetUrl;
     private Boolean isRead;
     private LocalDateTime createdAt;
+    private Integer aggregateCount;     // 합쳐진 알림 수 (2 이상이면 기존 알림을 갱신한 것)
 
     public static NotificationDTO convertToDTO(Notification notification) {
         return NotificationDTO.builder()
@@ -24,6 +25,7 @@ public class NotificationDTO {
             .targetUrl(notification.getTargetUrl())
             .isRead(notification.getIsRead())
             .createdAt(notification.getCreatedAt())
+            .aggregateCount(notification.getAggregateCount())
             .build();
     }
 }
@@ -0,0 +1,39 @@
+package net.dsa.scitHub.dto;
+
+import net.dsa.scitHub.enums.NotificationType;
+
+/**
+ * 노드 간에 전달되는 알림 이벤트 (NotificationBroker)
+ * @param kind             이벤트 종류
+ * @param notificationType 알림 종류
+ * @param recipientId      수신자 ID (전체 알림이면 null)
+ * @param senderId         전체 알림 작성자 ID (개인 알림이면 null)
+ * @param notification     저장된 알림
+ */
+public record NotificationEvent(
+    Kind kind,
+    NotificationType notificationType,
+    Integer recipientId,
+    Integer senderId,
+    NotificationDTO notification
+) {
+
+    /** 이벤트 종류 */
+    public enum Kind {
+        CREATED,    // 새 개인 알림
+        UPDATED,    // 기존 개인 알림에 합쳐짐 (같은 ID, 내용 갱신)
+        BROADCAST   // 새 전체 알림
+    }
+
+    public static NotificationEvent created(NotificationType type, Integer recipientId, NotificationDTO notification) {
+        return new NotificationEvent(Kind.CREATED, type, recipientId, null, notification);
+    }
+
+    public static NotificationEvent updated(NotificationType type, Integer recipientId, NotificationDTO notification) {
+        return new NotificationEvent(Kind.UPDATED, type, recipientId, null, notification);
+    }
+
+    public static NotificationEvent broadcast(NotificationType type, Integer senderId, NotificationDTO notification) {
+        return new NotificationEvent(Kind.BROADCAST, type, null, senderId, notification);
+    }
+}
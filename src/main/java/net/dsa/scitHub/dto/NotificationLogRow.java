@@ -0,0 +1,54 @@
+package net.dsa.scitHub.dto;
+
+import java.time.LocalDateTime;
+
+import net.dsa.scitHub.enums.NotificationType;
+
+/**
+ * notification 테이블을 이벤트 로그로 읽을 때의 조회 결과 (JPQL 생성자 프로젝션)
+ * - 연관 엔티티를 읽지 않고 수신자/작성자 ID만 조회
+ */
+public record NotificationLogRow(
+    Integer notificationId,
+    Integer recipientId,
+    Integer senderId,
+    NotificationType notificationType,
+    String title,
+    String content,
+    String targetUrl,
+    Boolean isRead,
+    Integer aggregateCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /** JPQL 생성자 표현식 (NotificationRepository 로그 조회 쿼리에서 공통 사용) */
+    public static final String SELECT =
+        "SELECT new net.dsa.scitHub.dto.NotificationLogRow(" +
+        "n.notificationId, u.userId, s.userId, n.notificationType, n.title, n.content, n.targetUrl, " +
+        "n.isRead, n.aggregateCount, n.createdAt, n.updatedAt) " +
+        "FROM Notification n LEFT JOIN n.user u LEFT JOIN n.sender s ";
+
+    /**
+     * 이벤트로 변환 (수신자가 없으면 전체 알림)
+     * @param updated 새로 추가된 행이 아니라 기존 행이 갱신(합쳐짐)된 것이면 true
+     * @return 알림 이벤트
+     */
+    public NotificationEvent toEvent(boolean updated) {
+        NotificationDTO notificationDTO = NotificationDTO.builder()
+            .notificationId(notificationId)
+            .title(title)
+            .content(content)
+            .targetUrl(targetUrl)
+            .isRead(isRead)
+            .createdAt(createdAt)
+            .aggregateCount(aggregateCount)
+            .build();
+        if (recipientId == null) {
+            return NotificationEvent.broadcast(notificationType, senderId, notificationDTO);
+        }
+        return updated
+            ? NotificationEvent.updated(notificationType, recipientId, notificationDTO)
+            : NotificationEvent.created(notificationType, recipientId, notificationDTO);
+    }
+}
@@ -0,0 +1,24 @@
+package net.dsa.scitHub.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 키셋(커서) 방식 게시글 목록 응답
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorPageDTO {
+    private List<PostDTO> content;
+    private String nextCursor;      // 다음(더 오래된) 페이지 커서, 없으면 null
+    private String prevCursor;      // 이전(더 최신) 페이지 커서, 없으면 null
+    private boolean hasNext;
+    private boolean hasPrev;
+    private Long approximateTotal;  // 요청 시에만 포함되는 게시판 전체 글 수 (캐시된 근사값)
+}
@@ -54,14 +54,37 @@ public class PostDTO {
                 .title(post.getTitle())
                 .content(post.getContent())
                 .viewCount(post.getViewCount())
-                .likeCount(post.getLikes().size())
-                .commentCount(post.getComments().size())
-                .isComment(!post.getComments().isEmpty())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .isComment(post.getCommentCount() > 0)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
 
+    public static PostDTO convertToPostDTO(PostListRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        return PostDTO.builder()
+                .postId(row.postId())
+                .boardId(row.boardId())
+                .board(row.boardName())
+                .userId(row.userId())
+                .username(row.username())
+                .userNameKor(row.userNameKor())
+                .avatarUrl(row.avatarUrl())
+                .title(row.title())
+                .viewCount(row.viewCount())
+                .likeCount(row.likeCount())
+                .commentCount(row.commentCount())
+                .isComment(row.commentCount() > 0)
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     public static Post convertToPostEntity(PostDTO postDTO, User user, Board board) {
         if (postDTO == null) {
             return null;
@@ -0,0 +1,31 @@
+package net.dsa.scitHub.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 전용 조회 결과 (JPQL 생성자 프로젝션)
+ * - 본문(content)과 연관 엔티티를 읽지 않고 목록에 필요한 컬럼만 조회
+ */
+public record PostListRow(
+    Integer postId,
+    Integer boardId,
+    String boardName,
+    Integer userId,
+    String username,
+    String userNameKor,
+    String avatarUrl,
+    String title,
+    Integer viewCount,
+    int likeCount,
+    int commentCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /** JPQL 생성자 표현식 (PostRepository 목록 쿼리에서 공통 사용) */
+    public static final String SELECT =
+        "SELECT new net.dsa.scitHub.dto.PostListRow(" +
+        "p.postId, b.boardId, b.name, u.userId, u.username, u.nameKor, u.avatarUrl, " +
+        "p.title, p.viewCount, p.likeCount, p.commentCount, p.createdAt, p.updatedAt) " +
+        "FROM Post p JOIN p.board b JOIN p.user u ";
+}
@@ -0,0 +1,21 @@
+package net.dsa.scitHub.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 알림 보관 기간 정리 결과 (정책별, 운영실 조회용)
+ */
+@Data
+@Builder
+public class RetentionReportDTO {
+    private String policy;              // read, unread, broadcast, archive
+    private String action;              // ARCHIVE(보관 테이블로 이동), DELETE(삭제)
+    private LocalDateTime cutoff;       // 이 시각 이전에 생성(보관)된 행이 대상
+    private int rows;                   // 처리한 행 수
+    private int chunks;                 // 나눠서 실행한 트랜잭션 수
+    private long elapsedMillis;         // 걸린 시간
+    private LocalDateTime finishedAt;
+}
@@ -5,7 +5,6 @@ import lombok.*;
 import net.dsa.scitHub.entity.interfaces.Authorizable;
 import net.dsa.scitHub.entity.user.User;
 
-import org.hibernate.annotations.Formula;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +14,10 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+    // 게시판별 최신순 목록 (키셋 페이징)
+    @Index(name = "post_board_created_at_post_id_index", columnList = "board_id, created_at, post_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -51,7 +53,7 @@ public class Post implements Authorizable{
 
     /** 게시글 조회 수 */
     @Builder.Default
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
     /** 게시글 작성 시간 */
@@ -81,13 +83,21 @@ public class Post implements Authorizable{
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
     private List<PostLike> likes;
 
-    // --- @Formula를 사용한 '좋아요 수' 필드 추가 ---
-    @Formula("(SELECT count(1) FROM post_like pl WHERE pl.post_id = post_id)")
-    private int likeCount;
+    /**
+     * 게시글 좋아요 수 (비정규화 카운터)
+     * - 엔티티 flush 시 덮어쓰지 않도록 updatable = false, 증감은 PostRepository의 벌크 UPDATE로만 처리
+     */
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private int likeCount = 0;
 
-    // --- @Formula를 사용한 '댓글 수' 필드 추가 ---
-    @Formula("(SELECT count(1) FROM comment c WHERE c.post_id = post_id)")
-    private int commentCount;
+    /**
+     * 게시글 댓글 수 (비정규화 카운터)
+     * - 엔티티 flush 시 덮어쓰지 않도록 updatable = false, 증감은 PostRepository의 벌크 UPDATE로만 처리
+     */
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private int commentCount = 0;
 
 
     @Override
@@ -0,0 +1,82 @@
+package net.dsa.scitHub.entity.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 쪽지 대화방 (두 사용자 사이의 모든 쪽지)
+ * - 두 사용자 ID 중 작은 쪽을 user_low, 큰 쪽을 user_high로 저장해 한 쌍에 한 행만 존재
+ * - 마지막 쪽지와 참가자별 읽지 않은 쪽지 수를 함께 관리
+ */
+@Entity
+@Table(name = "conversation", uniqueConstraints = {
+    @UniqueConstraint(name = "conversation_user_low_id_user_high_id_uindex", columnNames = {"user_low_id", "user_high_id"})
+}, indexes = {
+    @Index(name = "conversation_user_high_id_index", columnList = "user_high_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"userLow", "userHigh"})
+public class Conversation {
+
+    /** 대화방 고유 식별자 */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversation_id")
+    private Integer conversationId;
+
+    /** 참가자 중 ID가 작은 사용자 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_low_id", nullable = false)
+    private User userLow;
+
+    /** 참가자 중 ID가 큰 사용자 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_high_id", nullable = false)
+    private User userHigh;
+
+    /** 마지막 쪽지 ID (쪽지가 없으면 null) */
+    @Column(name = "last_message_id")
+    private Integer lastMessageId;
+
+    /** 마지막 쪽지 발송 시간 */
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    /** user_low가 읽지 않은 쪽지 수 */
+    @Builder.Default
+    @Column(name = "low_unread_count", nullable = false)
+    private Integer lowUnreadCount = 0;
+
+    /** user_high가 읽지 않은 쪽지 수 */
+    @Builder.Default
+    @Column(name = "high_unread_count", nullable = false)
+    private Integer highUnreadCount = 0;
+
+    /** 대화방 생성 시간 */
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Conversation)) return false;
+        Conversation that = (Conversation) o;
+        return Objects.equals(conversationId, that.conversationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(conversationId);
+    }
+}
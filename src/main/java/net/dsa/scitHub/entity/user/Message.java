@@ -10,14 +10,19 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "message")
+@Table(name = "message", indexes = {
+    @Index(name = "message_conversation_id_message_id_index", columnList = "conversation_id, message_id"),
+    @Index(name = "message_receiver_id_deleted_by_receiver_created_at_index", columnList = "receiver_id, deleted_by_receiver, created_at"),
+    @Index(name = "message_sender_id_deleted_by_sender_created_at_index", columnList = "sender_id, deleted_by_sender, created_at"),
+    @Index(name = "message_deleted_by_sender_deleted_by_receiver_index", columnList = "deleted_by_sender, deleted_by_receiver")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@ToString(exclude = {"sender", "receiver", "notifications"})
+@ToString(exclude = {"sender", "receiver", "conversation", "notifications"})
 public class Message {
     
     /** 메시지 고유 식별자 */
@@ -36,6 +41,11 @@ public class Message {
     @JoinColumn(name = "receiver_id", nullable = false)
     private User receiver;
     
+    /** 메시지가 속한 대화방 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "conversation_id")
+    private Conversation conversation;
+    
     /** 메시지 제목 */
     @Column(name = "title", nullable = false, length = 200)
     private String title;
@@ -49,6 +59,16 @@ public class Message {
     @Column(name = "is_read", nullable = false)
     private Boolean isRead = false;
     
+    /** 발신자 쪽에서 삭제 여부 (보낸 쪽지함에서 숨김) */
+    @Builder.Default
+    @Column(name = "deleted_by_sender", nullable = false)
+    private Boolean deletedBySender = false;
+    
+    /** 수신자 쪽에서 삭제 여부 (받은 쪽지함에서 숨김) */
+    @Builder.Default
+    @Column(name = "deleted_by_receiver", nullable = false)
+    private Boolean deletedByReceiver = false;
+    
     /** 메시지 발송 시간 */
     @CreatedDate
     @Column(name = "created_at", updatable = false)
@@ -16,14 +16,17 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+    @Index(name = "notification_user_id_is_read_index", columnList = "user_id, is_read, notification_id"),
+    @Index(name = "notification_updated_at_index", columnList = "updated_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@ToString(exclude = {"user", "post", "comment", "message", "studentGroup", "event", "reservation"})
+@ToString(exclude = {"user", "sender", "post", "comment", "message", "studentGroup", "event", "reservation"})
 public class Notification {
     /** 알림 고유 식별자 */
     @Id
@@ -31,11 +34,16 @@ public class Notification {
     @Column(name = "notification_id")
     private Integer notificationId;
 
-    /** 알림 대상 사용자 */
+    /** 알림 대상 사용자 (null이면 모든 사용자에게 보이는 전체 알림) */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id")
     private User user;
 
+    /** 전체 알림 작성자 (작성자 본인에게는 표시하지 않음) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sender_id")
+    private User sender;
+
     /** 알림 제목 */
     @Column(name = "title", nullable = false, length = 150)
     private String title;
@@ -58,6 +66,19 @@ public class Notification {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    /** 합쳐진 알림 수 (같은 게시글의 좋아요/댓글 알림을 일정 시간 안에서 하나로 합친 경우 2 이상) */
+    @Builder.Default
+    @Column(name = "aggregate_count", nullable = false, columnDefinition = "INT DEFAULT 1")
+    private Integer aggregateCount = 1;
+
+    /** 마지막으로 합쳐진 알림을 발생시킨 사용자 ID (같은 사용자의 좋아요 취소/재등록 반복은 다시 세지 않음) */
+    @Column(name = "last_actor_id")
+    private Integer lastActorId;
+
+    /** 마지막으로 다른 알림이 합쳐진 시간 (합쳐진 적이 없으면 null) */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     /** 알림 종류 */
     @Enumerated(EnumType.STRING)
     @Column(name = "notification_type", nullable = false)
@@ -0,0 +1,94 @@
+package net.dsa.scitHub.entity.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 보관 기간이 지난 알림 (notification 테이블에서 옮겨 온 행)
+ * - 원본 게시글/댓글 등이 삭제되어도 남도록 참조는 외래 키 없이 ID만 보관
+ * - 보관 기간(archiveDays)이 지나면 NotificationRetentionService가 삭제
+ */
+@Entity
+@Table(name = "notification_archive", indexes = {
+    @Index(name = "notification_archive_archived_at_index", columnList = "archived_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class NotificationArchive {
+    /** 원본 알림 ID */
+    @Id
+    @Column(name = "notification_id")
+    private Integer notificationId;
+
+    /** 알림 대상 사용자 ID (null이면 전체 알림) */
+    @Column(name = "user_id")
+    private Integer userId;
+
+    /** 전체 알림 작성자 ID */
+    @Column(name = "sender_id")
+    private Integer senderId;
+
+    @Column(name = "title", nullable = false, length = 150)
+    private String title;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "target_url", length = 500)
+    private String targetUrl;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead;
+
+    /** 원본 알림 생성 시간 */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "notification_type", nullable = false, length = 30)
+    private String notificationType;
+
+    @Column(name = "aggregate_count", nullable = false)
+    private Integer aggregateCount;
+
+    @Column(name = "post_id")
+    private Integer postId;
+
+    @Column(name = "comment_id")
+    private Integer commentId;
+
+    @Column(name = "message_id")
+    private Integer messageId;
+
+    @Column(name = "student_group_id")
+    private Integer studentGroupId;
+
+    @Column(name = "event_id")
+    private Integer eventId;
+
+    @Column(name = "reservation_id")
+    private Integer reservationId;
+
+    /** 보관 테이블로 옮긴 시간 */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NotificationArchive)) return false;
+        NotificationArchive that = (NotificationArchive) o;
+        return Objects.equals(notificationId, that.notificationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(notificationId);
+    }
+}
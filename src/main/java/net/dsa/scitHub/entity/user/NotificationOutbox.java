@@ -0,0 +1,83 @@
+package net.dsa.scitHub.entity.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+import net.dsa.scitHub.dto.NotificationEvent;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 알림 아웃박스 (전달 대기 중인 알림 이벤트)
+ * - 알림 저장과 같은 트랜잭션에서 기록되고, 커밋 후 NotificationOutboxDispatcher가 전달한 뒤 삭제
+ * - 전달에 실패하면 재시도 시각을 늦춰 다시 시도하고, 최대 횟수를 넘으면 failed_at을 기록해 제외
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "notification_outbox_ordering_key_index", columnList = "ordering_key, next_attempt_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class NotificationOutbox {
+    /** 아웃박스 ID (전달 순서) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Integer outboxId;
+
+    /** 이벤트 종류 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_kind", nullable = false, length = 20)
+    private NotificationEvent.Kind kind;
+
+    /** 전달할 알림 ID */
+    @Column(name = "notification_id", nullable = false)
+    private Integer notificationId;
+
+    /** 순서를 지킬 단위 (수신자 ID, 전체 알림은 0) */
+    @Column(name = "ordering_key", nullable = false)
+    private Integer orderingKey;
+
+    /** 전달 시도 횟수 */
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /** 다음 전달 시도 시각 (null이면 바로 전달) */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /** 마지막 실패 사유 */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** 최대 시도 횟수를 넘겨 전달을 포기한 시각 */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    /** 기록 시간 */
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NotificationOutbox)) return false;
+        NotificationOutbox that = (NotificationOutbox) o;
+        return Objects.equals(outboxId, that.outboxId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(outboxId);
+    }
+}
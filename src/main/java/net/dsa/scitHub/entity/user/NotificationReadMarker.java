@@ -0,0 +1,43 @@
+package net.dsa.scitHub.entity.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Objects;
+
+/**
+ * 전체 알림 읽음 위치 (사용자별 1행)
+ * - 전체 알림은 한 번만 저장되므로, 이 ID 이하의 전체 알림은 해당 사용자에게 읽음으로 취급
+ */
+@Entity
+@Table(name = "notification_read_marker")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class NotificationReadMarker {
+    /** 사용자 ID */
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    /** 읽음 처리한 마지막 전체 알림 ID */
+    @Builder.Default
+    @Column(name = "last_broadcast_id", nullable = false)
+    private Integer lastBroadcastId = 0;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NotificationReadMarker)) return false;
+        NotificationReadMarker that = (NotificationReadMarker) o;
+        return Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId);
+    }
+}
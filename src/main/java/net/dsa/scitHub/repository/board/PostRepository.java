@@ -8,9 +8,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import net.dsa.scitHub.dto.PostListRow;
 import net.dsa.scitHub.entity.board.Post;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,11 +33,133 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     @Query("SELECT p FROM Post p WHERE p.board.boardId = :boardId AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
     Page<Post> findByBoardAndKeyword(@Param("boardId") Integer boardId, @Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 검색 색인 구성용 게시글 원문을 ID 순으로 조회 (키셋 배치)
+     * @param lastId   직전 배치의 마지막 게시글 ID
+     * @param pageable 배치 크기
+     * @return [postId, boardId, title, content, 작성자 nameKor, 작성자 username]
+     */
+    @Query("SELECT p.postId, p.board.boardId, p.title, p.content, u.nameKor, u.username " +
+           "FROM Post p JOIN p.user u WHERE p.postId > :lastId ORDER BY p.postId")
+    List<Object[]> findSearchSourceAfter(@Param("lastId") Integer lastId, Pageable pageable);
+
+    /**
+     * 게시판 목록 (목록 컬럼만 조회, 페이징)
+     * @param boardId  게시판 ID
+     * @param pageable 페이지 정보 (정렬 포함)
+     * @return 목록 행 페이지
+     */
+    @Query(value = PostListRow.SELECT + "WHERE b.boardId = :boardId",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.board.boardId = :boardId")
+    Page<PostListRow> findListRowsByBoard(@Param("boardId") Integer boardId, Pageable pageable);
+
+    /** 여러 게시글의 목록 행 조회 (검색 결과 페이지 구성용, 순서 보장 없음) */
+    @Query(PostListRow.SELECT + "WHERE p.postId IN :postIds")
+    List<PostListRow> findListRowsByPostIdIn(@Param("postIds") List<Integer> postIds);
+
+    /**
+     * 여러 게시판의 최신 게시글 목록 행 조회
+     * @param boardNames 게시판 이름 목록
+     * @param pageable   조회 건수
+     * @return 최신순 목록 행
+     */
+    @Query(PostListRow.SELECT + "WHERE b.name IN :boardNames ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostListRow> findLatestListRowsByBoardNames(@Param("boardNames") List<String> boardNames, Pageable pageable);
+
+    /**
+     * 게시판 첫 페이지 (키셋 페이징, 최신순)
+     * @param boardId  게시판 ID
+     * @param pageable 조회 건수 (정렬은 쿼리에 고정)
+     * @return 게시글 목록
+     */
+    @Query(PostListRow.SELECT + "WHERE b.boardId = :boardId " +
+           "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostListRow> findFirstByBoardKeyset(@Param("boardId") Integer boardId, Pageable pageable);
+
+    /**
+     * 커서보다 오래된 게시글 (키셋 페이징, 최신순)
+     * @param boardId   게시판 ID
+     * @param createdAt 커서 게시글 작성 시간
+     * @param postId    커서 게시글 ID
+     * @param pageable  조회 건수 (정렬은 쿼리에 고정)
+     * @return 게시글 목록
+     */
+    @Query(PostListRow.SELECT + "WHERE b.boardId = :boardId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+           "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostListRow> findOlderByBoardKeyset(@Param("boardId") Integer boardId, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("postId") Integer postId, Pageable pageable);
+
+    /**
+     * 커서보다 최신 게시글 (키셋 페이징, 오래된 순 → 호출 측에서 뒤집어 사용)
+     * @param boardId   게시판 ID
+     * @param createdAt 커서 게시글 작성 시간
+     * @param postId    커서 게시글 ID
+     * @param pageable  조회 건수 (정렬은 쿼리에 고정)
+     * @return 게시글 목록
+     */
+    @Query(PostListRow.SELECT + "WHERE b.boardId = :boardId " +
+           "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.postId > :postId)) " +
+           "ORDER BY p.createdAt ASC, p.postId ASC")
+    List<PostListRow> findNewerByBoardKeyset(@Param("boardId") Integer boardId, @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("postId") Integer postId, Pageable pageable);
+
+    /** 게시판별 게시글 수 */
+    long countByBoard_BoardId(Integer boardId);
+
     /** 조회수 증가 */
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.postId = :postId")
     void incrementViewCount(@Param("postId") Integer postId);
 
+    /**
+     * 여러 게시글의 조회수를 같은 증가분만큼 증가 (조회수 버퍼 반영용)
+     * @param delta   증가분
+     * @param postIds 게시글 ID 목록
+     * @return 갱신된 게시글 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.postId IN :postIds")
+    int addViewCount(@Param("delta") int delta, @Param("postIds") Collection<Integer> postIds);
+
+    /** 좋아요 수 1 증가 */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.postId = :postId")
+    int incrementLikeCount(@Param("postId") Integer postId);
+
+    /** 좋아요 수 1 감소 (0 미만으로 내려가지 않음) */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.postId = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Integer postId);
+
+    /** 댓글 수 1 증가 */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId")
+    int incrementCommentCount(@Param("postId") Integer postId);
+
+    /** 댓글 수 1 감소 (0 미만으로 내려가지 않음) */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.postId = :postId AND p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") Integer postId);
+
+    /** 저장된 좋아요 수 조회 */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.postId = :postId")
+    Optional<Integer> findLikeCountByPostId(@Param("postId") Integer postId);
+
+    /**
+     * 좋아요/댓글 카운터를 실제 행 수와 맞춤 (어긋난 게시글만 갱신)
+     * @return 보정된 게시글 수
+     */
+    @Modifying
+    @Query(value =
+        "UPDATE post p SET " +
+        "p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.post_id), " +
+        "p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id) " +
+        "WHERE p.like_count <> (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.post_id) " +
+        "OR p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.post_id)",
+        nativeQuery = true)
+    int reconcileCounters();
+
     /** 조회수가 높은 게시글들 조회 */
     @Query("SELECT p FROM Post p ORDER BY p.viewCount DESC")
     List<Post> findTopByViewCount(Pageable pageable);
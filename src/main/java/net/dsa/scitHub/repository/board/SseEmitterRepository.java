@@ -1,30 +1,114 @@
 package net.dsa.scitHub.repository.board;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * SSE 연결 저장소
+ * - 사용자 한 명이 여러 탭/기기로 동시에 접속할 수 있으므로 사용자별로 연결 ID → Emitter를 보관
+ * - 끊어진 연결은 전송 실패 시 또는 하트비트 주기마다 일괄 제거
+ */
 @Repository
 @Slf4j
 public class SseEmitterRepository {
 
-    private final Map<Integer, SseEmitter> emitters = new ConcurrentHashMap<>();
+    /**
+     * SSE 연결
+     * @param userId       사용자 ID
+     * @param connectionId 연결 ID
+     * @param emitter      Emitter
+     */
+    public record Connection(Integer userId, String connectionId, SseEmitter emitter) {
+    }
+
+    private final Map<Integer, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicLong connectionSequence = new AtomicLong();
+
+    /**
+     * 연결 등록
+     * @param userId  사용자 ID
+     * @param emitter Emitter
+     * @return 새 연결 ID
+     */
+    public String save(Integer userId, SseEmitter emitter) {
+        String connectionId = userId + "-" + connectionSequence.incrementAndGet();
+        emitters.computeIfAbsent(userId, id -> new ConcurrentHashMap<>()).put(connectionId, emitter);
+        log.info("SseEmitter 저장됨 [userId={}, connectionId={}]", userId, connectionId);
+        return connectionId;
+    }
+
+    /**
+     * 연결 하나 제거 (사용자의 마지막 연결이면 사용자 항목도 제거)
+     * @param userId       사용자 ID
+     * @param connectionId 연결 ID
+     */
+    public void delete(Integer userId, String connectionId) {
+        boolean[] removed = {false};
+        emitters.computeIfPresent(userId, (id, connections) -> {
+            removed[0] = connections.remove(connectionId) != null;
+            return connections.isEmpty() ? null : connections;
+        });
+        if (removed[0]) {
+            log.info("SseEmitter 삭제됨 [userId={}, connectionId={}]", userId, connectionId);
+        }
+    }
+
+    /**
+     * 여러 연결을 한 번에 제거
+     * @param connections 제거할 연결 목록
+     */
+    public void deleteAll(Collection<Connection> connections) {
+        for (Connection connection : connections) {
+            delete(connection.userId(), connection.connectionId());
+        }
+    }
+
+    /**
+     * 사용자의 모든 연결 조회 (스냅샷)
+     * @param userId 사용자 ID
+     * @return 연결 목록 (없으면 빈 목록)
+     */
+    public List<Connection> findAllByUserId(Integer userId) {
+        Map<String, SseEmitter> connections = emitters.get(userId);
+        if (connections == null) {
+            return List.of();
+        }
+        List<Connection> result = new ArrayList<>();
+        connections.forEach((connectionId, emitter) -> result.add(new Connection(userId, connectionId, emitter)));
+        return result;
+    }
 
-    public void save(Integer userId, SseEmitter emitter) {
-        emitters.put(userId, emitter);
-        log.info("SseEmitter 저장됨 [userId={}]", userId);
+    /**
+     * 전체 연결 조회 (스냅샷)
+     * @return 연결 목록
+     */
+    public List<Connection> findAll() {
+        List<Connection> result = new ArrayList<>();
+        emitters.forEach((userId, connections) ->
+            connections.forEach((connectionId, emitter) -> result.add(new Connection(userId, connectionId, emitter))));
+        return result;
     }
 
-    public void deleteById(Integer userId) {
-        emitters.remove(userId);
-        log.info("SseEmitter 삭제됨 [userId={}]", userId);
+    /** 전체 연결 수 */
+    public int count() {
+        int count = 0;
+        for (Map<String, SseEmitter> connections : emitters.values()) {
+            count += connections.size();
+        }
+        return count;
     }
 
-    public SseEmitter findById(Integer userId) {
-        return emitters.get(userId);
+    /** 접속 중인 사용자 수 */
+    public int countUsers() {
+        return emitters.size();
     }
 }
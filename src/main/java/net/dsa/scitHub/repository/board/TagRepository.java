@@ -16,6 +16,10 @@ public interface TagRepository extends JpaRepository<Tag, Integer> {
     /** 게시글별 태그 조회 */
     List<Tag> findByPost_PostId(Integer postId);
     
+    /** 여러 게시글의 태그 이름 조회 ([postId, name]) */
+    @Query("SELECT t.post.postId, t.name FROM Tag t WHERE t.post.postId IN :postIds")
+    List<Object[]> findPostIdAndNameByPostIdIn(@Param("postIds") List<Integer> postIds);
+    
     /** 태그 이름으로 조회 */
     List<Tag> findByName(String name);
     
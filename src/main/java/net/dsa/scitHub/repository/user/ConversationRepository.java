@@ -0,0 +1,125 @@
+package net.dsa.scitHub.repository.user;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import net.dsa.scitHub.entity.user.Conversation;
+
+@Repository
+public interface ConversationRepository extends JpaRepository<Conversation, Integer> {
+
+    /**
+     * 두 사용자의 대화방 조회
+     * @param lowId  두 사용자 ID 중 작은 값
+     * @param highId 두 사용자 ID 중 큰 값
+     * @return 대화방
+     */
+    @Query("SELECT c FROM Conversation c WHERE c.userLow.userId = :lowId AND c.userHigh.userId = :highId")
+    Optional<Conversation> findByPair(@Param("lowId") Integer lowId, @Param("highId") Integer highId);
+
+    /**
+     * 두 사용자의 대화방 존재 여부 (잠그지 않음, 값을 읽지 않으므로 영속성 컨텍스트에도 남지 않음)
+     * @param lowId  두 사용자 ID 중 작은 값
+     * @param highId 두 사용자 ID 중 큰 값
+     * @return 있으면 true
+     */
+    @Query("SELECT COUNT(c) > 0 FROM Conversation c WHERE c.userLow.userId = :lowId AND c.userHigh.userId = :highId")
+    boolean existsByPair(@Param("lowId") Integer lowId, @Param("highId") Integer highId);
+
+    /**
+     * 두 사용자의 대화방 조회 (행 잠금, 마지막 쪽지/읽지 않은 수 갱신용)
+     * - 없는 쌍을 잠그면 빈 범위 잠금(갭 락)이 되므로 insertIfAbsent로 행을 만든 뒤 호출
+     * @param lowId  두 사용자 ID 중 작은 값
+     * @param highId 두 사용자 ID 중 큰 값
+     * @return 대화방
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Conversation c WHERE c.userLow.userId = :lowId AND c.userHigh.userId = :highId")
+    Optional<Conversation> findByPairForUpdate(@Param("lowId") Integer lowId, @Param("highId") Integer highId);
+
+    /**
+     * 대화방 조회 (행 잠금)
+     * @param conversationId 대화방 ID
+     * @return 대화방
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Conversation c WHERE c.conversationId = :conversationId")
+    Optional<Conversation> findByIdForUpdate(@Param("conversationId") Integer conversationId);
+
+    /**
+     * 대화방이 없으면 생성 (동시에 첫 쪽지를 보내도 유니크 키로 한 행만 생성)
+     * @param lowId  두 사용자 ID 중 작은 값
+     * @param highId 두 사용자 ID 중 큰 값
+     * @return 생성된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO conversation (user_low_id, user_high_id, low_unread_count, high_unread_count, created_at) " +
+                   "VALUES (:lowId, :highId, 0, 0, NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("lowId") Integer lowId, @Param("highId") Integer highId);
+
+    /**
+     * 사용자가 참가한 대화방 목록 (마지막 쪽지 최신순)
+     * - 사용자가 자기 쪽에서 쪽지를 모두 삭제한 대화방은 제외
+     *   (삭제는 한쪽에만 표시되므로 대화방의 마지막 쪽지는 양쪽 공통, 사용자 기준 마지막 쪽지는 따로 조회)
+     * @param userId 사용자 ID
+     * @param pageable 최대 조회 건수
+     * @return 대화방 목록 (상대방 정보 포함)
+     */
+    @Query("SELECT c FROM Conversation c JOIN FETCH c.userLow JOIN FETCH c.userHigh " +
+           "WHERE (c.userLow.userId = :userId OR c.userHigh.userId = :userId) AND c.lastMessageId IS NOT NULL " +
+           "AND EXISTS (SELECT m.messageId FROM Message m WHERE m.conversation = c " +
+           "AND ((m.sender.userId = :userId AND m.deletedBySender = false) " +
+           "OR (m.receiver.userId = :userId AND m.deletedByReceiver = false))) " +
+           "ORDER BY c.lastMessageAt DESC, c.conversationId DESC")
+    List<Conversation> findByParticipant(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 사용자가 참가한 모든 대화방의 읽지 않은 수를 0으로 (받은 쪽지 모두 읽음 처리 후)
+     * @param userId 사용자 ID
+     * @return 변경된 대화방 수
+     */
+    @Modifying
+    @Query("UPDATE Conversation c SET " +
+           "c.lowUnreadCount = CASE WHEN c.userLow.userId = :userId THEN 0 ELSE c.lowUnreadCount END, " +
+           "c.highUnreadCount = CASE WHEN c.userHigh.userId = :userId THEN 0 ELSE c.highUnreadCount END " +
+           "WHERE c.userLow.userId = :userId OR c.userHigh.userId = :userId")
+    int clearUnread(@Param("userId") Integer userId);
+
+    // --- 기존 쪽지의 대화방 채우기 (기동 시 1회) ---
+
+    /** 대화방이 없는 쪽지의 사용자 쌍으로 대화방 생성 */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO conversation (user_low_id, user_high_id, low_unread_count, high_unread_count, created_at) " +
+                   "SELECT LEAST(m.sender_id, m.receiver_id), GREATEST(m.sender_id, m.receiver_id), 0, 0, MIN(m.created_at) " +
+                   "FROM message m WHERE m.conversation_id IS NULL " +
+                   "GROUP BY LEAST(m.sender_id, m.receiver_id), GREATEST(m.sender_id, m.receiver_id)", nativeQuery = true)
+    int backfillConversations();
+
+    /** 대화방이 없는 쪽지를 대화방에 연결 */
+    @Modifying
+    @Query(value = "UPDATE message m JOIN conversation c " +
+                   "ON c.user_low_id = LEAST(m.sender_id, m.receiver_id) AND c.user_high_id = GREATEST(m.sender_id, m.receiver_id) " +
+                   "SET m.conversation_id = c.conversation_id WHERE m.conversation_id IS NULL", nativeQuery = true)
+    int backfillMessages();
+
+    /** 마지막 쪽지 / 읽지 않은 수 다시 계산 (마지막 쪽지가 비어 있는 대화방만) */
+    @Modifying
+    @Query(value = "UPDATE conversation c SET " +
+                   "c.last_message_id = (SELECT MAX(m.message_id) FROM message m WHERE m.conversation_id = c.conversation_id), " +
+                   "c.last_message_at = (SELECT MAX(m.created_at) FROM message m WHERE m.conversation_id = c.conversation_id), " +
+                   "c.low_unread_count = (SELECT COUNT(*) FROM message m WHERE m.conversation_id = c.conversation_id " +
+                   "AND m.receiver_id = c.user_low_id AND m.is_read = 0), " +
+                   "c.high_unread_count = (SELECT COUNT(*) FROM message m WHERE m.conversation_id = c.conversation_id " +
+                   "AND m.receiver_id = c.user_high_id AND m.is_read = 0) " +
+                   "WHERE c.last_message_id IS NULL", nativeQuery = true)
+    int backfillSummaries();
+}
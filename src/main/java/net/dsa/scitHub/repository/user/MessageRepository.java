@@ -10,32 +10,48 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Integer> {
 
-    /** 수신자별 메시지 조회 (페이징) */
-    Page<Message> findByReceiver_UserId(Integer receiverId, Pageable pageable);
+    /** 수신자별 메시지 조회 (페이징, 수신자가 삭제한 쪽지 제외) */
+    @Query("SELECT m FROM Message m WHERE m.receiver.userId = :receiverId AND m.deletedByReceiver = false")
+    Page<Message> findByReceiver_UserId(@Param("receiverId") Integer receiverId, Pageable pageable);
 
-    /** 발신자별 메시지 조회 (페이징) */
-    Page<Message> findBySender_UserId(Integer senderId, Pageable pageable);
+    /** 발신자별 메시지 조회 (페이징, 발신자가 삭제한 쪽지 제외) */
+    @Query("SELECT m FROM Message m WHERE m.sender.userId = :senderId AND m.deletedBySender = false")
+    Page<Message> findBySender_UserId(@Param("senderId") Integer senderId, Pageable pageable);
 
-    /** 읽지 않은 메시지 수 조회 */
+    /** 읽지 않은 메시지 수 조회 (수신자가 삭제한 쪽지는 삭제 시 읽음 처리됨) */
     @Query("SELECT COUNT(m) FROM Message m WHERE m.receiver.userId = :userId AND m.isRead = false")
     Long countUnreadMessages(@Param("userId") Integer userId);
 
-    // --- 받은 쪽지 검색 ---
-    Page<Message> findByReceiver_UserIdAndTitleContaining(Integer userId, String title, Pageable pageable);
-    Page<Message> findByReceiver_UserIdAndContentContaining(Integer userId, String content, Pageable pageable);
-    @Query("SELECT m FROM Message m JOIN m.sender s WHERE m.receiver.userId = :userId AND s.nameKor LIKE %:keyword%")
+    /**
+     * 여러 수신자의 읽지 않은 메시지 수 조회 (읽지 않은 쪽지 수 보정용)
+     * @param receiverIds 수신자 ID 목록
+     * @return [receiverId, 읽지 않은 수] (읽지 않은 쪽지가 없는 수신자는 결과에 없음)
+     */
+    @Query("SELECT m.receiver.userId, COUNT(m) FROM Message m " +
+           "WHERE m.receiver.userId IN :receiverIds AND m.isRead = false GROUP BY m.receiver.userId")
+    List<Object[]> countUnreadMessagesByReceivers(@Param("receiverIds") Collection<Integer> receiverIds);
+
+    // --- 받은 쪽지 검색 (receiver_id, deleted_by_receiver, created_at 인덱스) ---
+    @Query("SELECT m FROM Message m WHERE m.receiver.userId = :userId AND m.deletedByReceiver = false AND m.title LIKE %:title%")
+    Page<Message> findByReceiver_UserIdAndTitleContaining(@Param("userId") Integer userId, @Param("title") String title, Pageable pageable);
+    @Query("SELECT m FROM Message m WHERE m.receiver.userId = :userId AND m.deletedByReceiver = false AND m.content LIKE %:content%")
+    Page<Message> findByReceiver_UserIdAndContentContaining(@Param("userId") Integer userId, @Param("content") String content, Pageable pageable);
+    @Query("SELECT m FROM Message m JOIN m.sender s WHERE m.receiver.userId = :userId AND m.deletedByReceiver = false AND s.nameKor LIKE %:keyword%")
     Page<Message> findReceivedMessagesBySenderName(@Param("userId") Integer userId, @Param("keyword") String keyword, Pageable pageable);
 
 
-    // --- 보낸 쪽지 검색 ---
-    Page<Message> findBySender_UserIdAndTitleContaining(Integer userId, String title, Pageable pageable);
-    Page<Message> findBySender_UserIdAndContentContaining(Integer userId, String content, Pageable pageable);
-    @Query("SELECT m FROM Message m JOIN m.receiver r WHERE m.sender.userId = :userId AND r.nameKor LIKE %:keyword%")
+    // --- 보낸 쪽지 검색 (sender_id, deleted_by_sender, created_at 인덱스) ---
+    @Query("SELECT m FROM Message m WHERE m.sender.userId = :userId AND m.deletedBySender = false AND m.title LIKE %:title%")
+    Page<Message> findBySender_UserIdAndTitleContaining(@Param("userId") Integer userId, @Param("title") String title, Pageable pageable);
+    @Query("SELECT m FROM Message m WHERE m.sender.userId = :userId AND m.deletedBySender = false AND m.content LIKE %:content%")
+    Page<Message> findBySender_UserIdAndContentContaining(@Param("userId") Integer userId, @Param("content") String content, Pageable pageable);
+    @Query("SELECT m FROM Message m JOIN m.receiver r WHERE m.sender.userId = :userId AND m.deletedBySender = false AND r.nameKor LIKE %:keyword%")
     Page<Message> findSentMessagesByReceiverName(@Param("userId") Integer userId, @Param("keyword") String keyword, Pageable pageable);
 
 
@@ -45,7 +61,7 @@ public interface MessageRepository extends JpaRepository<Message, Integer> {
      */
     @Query("SELECT m FROM Message m JOIN m.sender s " +
            "WHERE m.receiver.userId = :userId " +
-           // "AND m.deletedByReceiver = false " + // TODO: 논리적 삭제 구현 시 주석 해제
+           "AND m.deletedByReceiver = false " +
            "AND (m.title LIKE %:keyword% OR m.content LIKE %:keyword% OR s.nameKor LIKE %:keyword%)")
     Page<Message> findReceivedMessagesWithKeyword(@Param("userId") Integer userId, @Param("keyword") String keyword, Pageable pageable);
 
@@ -55,7 +71,7 @@ public interface MessageRepository extends JpaRepository<Message, Integer> {
      */
     @Query("SELECT m FROM Message m JOIN m.receiver r " +
            "WHERE m.sender.userId = :userId " +
-           // "AND m.deletedBySender = false " + // TODO: 논리적 삭제 구현 시 주석 해제
+           "AND m.deletedBySender = false " +
            "AND (m.title LIKE %:keyword% OR m.content LIKE %:keyword% OR r.nameKor LIKE %:keyword%)")
     Page<Message> findSentMessagesWithKeyword(@Param("userId") Integer userId, @Param("keyword") String keyword, Pageable pageable);
 
@@ -72,19 +88,78 @@ public interface MessageRepository extends JpaRepository<Message, Integer> {
     @Query("UPDATE Message m SET m.isRead = true WHERE m.messageId = :messageId")
     void markAsRead(@Param("messageId") Integer messageId);
 
-    /** 수신자의 모든 메시지를 읽음으로 표시 */
+    /** 수신자의 모든 메시지를 읽음으로 표시 (읽음 처리된 메시지 수 반환) */
     @Modifying
     @Query("UPDATE Message m SET m.isRead = true WHERE m.receiver.userId = :receiverId AND m.isRead = false")
-    void markAllAsReadByReceiver(@Param("receiverId") Integer receiverId);
+    int markAllAsReadByReceiver(@Param("receiverId") Integer receiverId);
 
     /** 읽지 않은 메시지들 조회 */
     @Query("SELECT m FROM Message m WHERE m.receiver.userId = :receiverId AND m.isRead = false ORDER BY m.createdAt DESC")
     List<Message> findUnreadMessages(@Param("receiverId") Integer receiverId);
 
-    /** 두 사용자 간의 메시지 대화 조회 */
-    @Query("SELECT m FROM Message m WHERE " +
-           "(m.sender.userId = :user1Id AND m.receiver.userId = :user2Id) OR " +
-           "(m.sender.userId = :user2Id AND m.receiver.userId = :user1Id) " +
-           "ORDER BY m.createdAt")
-    List<Message> findConversationBetweenUsers(@Param("user1Id") Integer user1Id, @Param("user2Id") Integer user2Id);
+    // --- 검색 색인 ---
+
+    /**
+     * 검색 색인 구성용 쪽지 조회 (ID 순서, 배치)
+     * @param lastId   직전 배치의 마지막 쪽지 ID
+     * @param pageable 배치 크기
+     * @return [messageId, senderId, receiverId, title, content, 발신자 nameKor, 발신자 username, 수신자 nameKor, 수신자 username,
+     *          발신자 삭제 여부, 수신자 삭제 여부]
+     */
+    @Query("SELECT m.messageId, s.userId, r.userId, m.title, m.content, s.nameKor, s.username, r.nameKor, r.username, " +
+           "m.deletedBySender, m.deletedByReceiver " +
+           "FROM Message m JOIN m.sender s JOIN m.receiver r WHERE m.messageId > :lastId ORDER BY m.messageId")
+    List<Object[]> findSearchSourceAfter(@Param("lastId") Integer lastId, Pageable pageable);
+
+    /**
+     * 검색 결과 쪽지 조회 (발신자/수신자 포함)
+     * @param messageIds 쪽지 ID 목록
+     * @return 쪽지 목록 (순서 보장 없음)
+     */
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender JOIN FETCH m.receiver WHERE m.messageId IN :messageIds")
+    List<Message> findWithUsersByMessageIdIn(@Param("messageIds") Collection<Integer> messageIds);
+
+    // --- 대화방 ---
+
+    /**
+     * 대화 내역 키셋 조회 (기준 쪽지보다 오래된 쪽지, 최신순)
+     * - (conversation_id, message_id) 인덱스 한 구간만 읽음
+     * - 조회하는 사용자가 자기 쪽에서 삭제한 쪽지는 제외
+     * @param conversationId 대화방 ID
+     * @param viewerId 조회하는 사용자 ID
+     * @param beforeId 기준 쪽지 ID (이 ID보다 작은 쪽지만)
+     * @param pageable 최대 조회 건수
+     * @return 쪽지 목록 (발신자/수신자 포함)
+     */
+    @Query("SELECT m FROM Message m JOIN FETCH m.sender s JOIN FETCH m.receiver r " +
+           "WHERE m.conversation.conversationId = :conversationId AND m.messageId < :beforeId " +
+           "AND ((s.userId = :viewerId AND m.deletedBySender = false) OR (r.userId = :viewerId AND m.deletedByReceiver = false)) " +
+           "ORDER BY m.messageId DESC")
+    List<Message> findThreadBefore(@Param("conversationId") Integer conversationId, @Param("viewerId") Integer viewerId,
+            @Param("beforeId") Integer beforeId, Pageable pageable);
+
+    /**
+     * 대화방별로 사용자가 볼 수 있는 마지막 쪽지 조회 (대화방 목록용, 자기 쪽에서 삭제한 쪽지 제외)
+     * @param conversationIds 대화방 ID 목록
+     * @param viewerId 조회하는 사용자 ID
+     * @return [conversationId, 마지막 쪽지 ID, 마지막 쪽지 시간] (볼 수 있는 쪽지가 없는 대화방은 결과에 없음)
+     */
+    @Query("SELECT m.conversation.conversationId, MAX(m.messageId), MAX(m.createdAt) FROM Message m " +
+           "WHERE m.conversation.conversationId IN :conversationIds " +
+           "AND ((m.sender.userId = :viewerId AND m.deletedBySender = false) " +
+           "OR (m.receiver.userId = :viewerId AND m.deletedByReceiver = false)) " +
+           "GROUP BY m.conversation.conversationId")
+    List<Object[]> findLastVisibleByConversations(@Param("conversationIds") Collection<Integer> conversationIds,
+            @Param("viewerId") Integer viewerId);
+
+    /**
+     * 대화방에서 받은 쪽지 모두 읽음 처리
+     * @param conversationId 대화방 ID
+     * @param receiverId 수신자 ID
+     * @return 읽음 처리된 쪽지 수
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.isRead = true " +
+           "WHERE m.conversation.conversationId = :conversationId AND m.receiver.userId = :receiverId AND m.isRead = false")
+    int markThreadAsRead(@Param("conversationId") Integer conversationId, @Param("receiverId") Integer receiverId);
 }
@@ -0,0 +1,37 @@
+package net.dsa.scitHub.repository.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import net.dsa.scitHub.entity.user.NotificationOutbox;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Integer> {
+
+    /**
+     * 지금 전달할 아웃박스 이벤트 (기록 순서, 행 잠금)
+     * - 같은 수신자의 앞선 이벤트가 재시도 대기 중이면 그 수신자의 이벤트는 모두 제외 (수신자별 순서 유지)
+     * - 다른 노드가 잠근 행은 건너뜀 (SKIP LOCKED)
+     * @param now 현재 시각
+     * @param pageable 최대 조회 건수
+     * @return 아웃박스 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.failedAt IS NULL " +
+           "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) " +
+           "AND o.orderingKey NOT IN (SELECT w.orderingKey FROM NotificationOutbox w " +
+           "WHERE w.failedAt IS NULL AND w.nextAttemptAt > :now) " +
+           "ORDER BY o.outboxId")
+    List<NotificationOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package net.dsa.scitHub.repository.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import net.dsa.scitHub.entity.user.NotificationReadMarker;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationReadMarkerRepository extends JpaRepository<NotificationReadMarker, Integer> {
+
+    /**
+     * 사용자의 전체 알림 읽음 위치 조회
+     * @param userId 사용자 ID
+     * @return 읽음 처리한 마지막 전체 알림 ID (기록이 없으면 빈 값)
+     */
+    @Query("SELECT m.lastBroadcastId FROM NotificationReadMarker m WHERE m.userId = :userId")
+    Optional<Integer> findLastBroadcastId(@Param("userId") Integer userId);
+
+    /**
+     * 전체 알림 읽음 위치를 앞으로만 이동 (없으면 생성)
+     * @param userId 사용자 ID
+     * @param broadcastId 읽음 처리할 마지막 전체 알림 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_read_marker (user_id, last_broadcast_id) VALUES (:userId, :broadcastId) " +
+                   "ON DUPLICATE KEY UPDATE last_broadcast_id = GREATEST(last_broadcast_id, :broadcastId)",
+           nativeQuery = true)
+    int advance(@Param("userId") Integer userId, @Param("broadcastId") Integer broadcastId);
+}
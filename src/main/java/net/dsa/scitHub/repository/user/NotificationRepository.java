@@ -2,15 +2,38 @@ package net.dsa.scitHub.repository.user;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import net.dsa.scitHub.dto.NotificationLogRow;
 import net.dsa.scitHub.entity.user.Notification;
 import net.dsa.scitHub.entity.user.User;
+import net.dsa.scitHub.enums.NotificationType;
 
+import jakarta.persistence.LockModeType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Integer> {
+
+    /**
+     * 사용자에게 보이는 전체 알림 조건 (:userId 필요)
+     * - 전체 알림은 user_id가 null이고 is_read는 항상 false (읽음 여부는 NotificationReadMarker로 관리)
+     * - is_read 조건을 함께 걸어 (user_id, is_read, notification_id) 인덱스를 그대로 사용
+     * - 작성자 본인 및 가입 전에 생성된 전체 알림은 제외
+     */
+    String BROADCAST_VISIBLE =
+        "n.user IS NULL AND n.isRead = false " +
+        "AND (n.sender IS NULL OR n.sender.userId <> :userId) " +
+        "AND n.createdAt >= (SELECT u.createdAt FROM User u WHERE u.userId = :userId) ";
+
     /**
      * 특정 사용자의 읽지 않은 알림 개수를 조회
      * @param user 알림의 주인인 사용자
@@ -27,4 +50,142 @@ public interface NotificationRepository extends JpaRepository<Notification, Inte
     List<Notification> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
     List<Notification> findAllByUserAndIsReadFalse(User user);
+
+    /**
+     * 특정 사용자의 읽지 않은 알림 중 가장 큰 ID
+     * @param userId 사용자 ID
+     * @return 알림 ID (읽지 않은 알림이 없으면 null)
+     */
+    @Query("SELECT MAX(n.notificationId) FROM Notification n WHERE n.user.userId = :userId AND n.isRead = false")
+    Integer findMaxUnreadId(@Param("userId") Integer userId);
+
+    /**
+     * 특정 ID 이하의 읽지 않은 알림을 한 번에 읽음 처리
+     * @param userId 사용자 ID
+     * @param maxId 읽음 처리할 마지막 알림 ID
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.userId = :userId AND n.isRead = false AND n.notificationId <= :maxId")
+    int markReadUpTo(@Param("userId") Integer userId, @Param("maxId") Integer maxId);
+
+    /**
+     * 특정 ID 이하의 읽지 않은 알림을 최대 limit건만 읽음 처리 (대량 처리 시 잠금 시간을 줄이기 위해 나눠서 실행)
+     * @param userId 사용자 ID
+     * @param maxId 읽음 처리할 마지막 알림 ID
+     * @param limit 한 번에 처리할 최대 건수
+     * @return 읽음으로 바뀐 알림 수
+     */
+    @Modifying
+    @Query(value = "UPDATE notification SET is_read = 1 WHERE user_id = :userId AND is_read = 0 AND notification_id <= :maxId LIMIT :limit",
+           nativeQuery = true)
+    int markReadUpToLimited(@Param("userId") Integer userId, @Param("maxId") Integer maxId, @Param("limit") int limit);
+
+    /**
+     * 새 알림을 합칠 수 있는 읽지 않은 알림 ID 조회 (같은 수신자/종류/게시글, 기준 시각 이후 생성)
+     * - 잠그지 않음: 대상이 없을 때 빈 범위를 잠그면(갭 락) 동시에 알림을 새로 만드는 트랜잭션끼리 교착 상태가 됨
+     * @param userId 수신자 ID
+     * @param type 알림 종류
+     * @param postId 게시글 ID
+     * @param since 합치는 시간의 시작 시각
+     * @param pageable 최대 조회 건수 (1건)
+     * @return 알림 ID 목록 (최신순)
+     */
+    @Query("SELECT n.notificationId FROM Notification n WHERE n.user.userId = :userId AND n.isRead = false " +
+           "AND n.notificationType = :type AND n.post.postId = :postId AND n.createdAt >= :since " +
+           "ORDER BY n.notificationId DESC")
+    List<Integer> findOpenAggregateIds(@Param("userId") Integer userId, @Param("type") NotificationType type,
+                                       @Param("postId") Integer postId, @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    /**
+     * 알림 조회 (기본 키로 행 잠금, 합칠 알림 갱신용)
+     * @param notificationId 알림 ID
+     * @return 알림
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.notificationId = :notificationId")
+    Optional<Notification> findByIdForUpdate(@Param("notificationId") Integer notificationId);
+
+    /**
+     * 특정 알림 ID 이후에 생성된 알림을 최신순으로 조회 (SSE 재연결 시 놓친 알림 재전송용)
+     * - user_id 인덱스 + PK 범위 조건이므로 최대 pageable 크기만큼만 읽음
+     * @param userId 사용자 ID
+     * @param lastId 클라이언트가 마지막으로 받은 알림 ID
+     * @param pageable 최대 조회 건수
+     * @return 알림 목록 (최신순)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId AND n.notificationId > :lastId ORDER BY n.notificationId DESC")
+    List<Notification> findNewerThan(@Param("userId") Integer userId, @Param("lastId") Integer lastId, Pageable pageable);
+
+    /**
+     * 읽음 위치 이후, 특정 ID 이하의 전체 알림 수
+     * @param userId 사용자 ID
+     * @param lastReadId 읽음 처리한 마지막 전체 알림 ID
+     * @param maxId 범위의 마지막 알림 ID (전체면 Integer.MAX_VALUE)
+     * @return 읽지 않은 전체 알림 수
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE " + BROADCAST_VISIBLE + "AND n.notificationId > :lastReadId AND n.notificationId <= :maxId")
+    long countUnreadBroadcasts(@Param("userId") Integer userId, @Param("lastReadId") Integer lastReadId, @Param("maxId") Integer maxId);
+
+    /**
+     * 사용자에게 보이는 최근 전체 알림 (최신순)
+     * @param userId 사용자 ID
+     * @param pageable 최대 조회 건수
+     * @return 전체 알림 목록
+     */
+    @Query("SELECT n FROM Notification n WHERE " + BROADCAST_VISIBLE + "ORDER BY n.notificationId DESC")
+    List<Notification> findRecentBroadcasts(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 특정 알림 ID 이후의 전체 알림 (최신순, SSE 재연결 시 재전송용)
+     * @param userId 사용자 ID
+     * @param lastId 클라이언트가 마지막으로 받은 알림 ID
+     * @param pageable 최대 조회 건수
+     * @return 전체 알림 목록
+     */
+    @Query("SELECT n FROM Notification n WHERE " + BROADCAST_VISIBLE + "AND n.notificationId > :lastId ORDER BY n.notificationId DESC")
+    List<Notification> findBroadcastsNewerThan(@Param("userId") Integer userId, @Param("lastId") Integer lastId, Pageable pageable);
+
+    /**
+     * 가장 큰 알림 ID (DB 알림 브로커 시작 위치)
+     * @return 알림 ID (알림이 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(n.notificationId), 0) FROM Notification n")
+    Integer findMaxId();
+
+    /**
+     * 특정 ID 이후에 추가된 알림 (ID 순서, DB 알림 브로커용)
+     * @param lastId 마지막으로 읽은 알림 ID
+     * @param pageable 최대 조회 건수
+     * @return 알림 로그 목록
+     */
+    @Query(NotificationLogRow.SELECT + "WHERE n.notificationId > :lastId ORDER BY n.notificationId")
+    List<NotificationLogRow> findLogAfter(@Param("lastId") Integer lastId, Pageable pageable);
+
+    /**
+     * 기준 시각 이후에 갱신(합쳐짐)된 알림 (갱신 시각 순서, DB 알림 브로커용)
+     * @param since 기준 시각
+     * @param maxId 이미 읽은 마지막 알림 ID (그 이후 행은 새 행으로 읽음)
+     * @param pageable 최대 조회 건수
+     * @return 알림 로그 목록
+     */
+    @Query(NotificationLogRow.SELECT + "WHERE n.updatedAt >= :since AND n.notificationId <= :maxId ORDER BY n.updatedAt, n.notificationId")
+    List<NotificationLogRow> findLogUpdatedSince(@Param("since") LocalDateTime since, @Param("maxId") Integer maxId, Pageable pageable);
+
+    /**
+     * 지정한 알림들의 현재 내용 (아웃박스 전달용)
+     * @param ids 알림 ID 목록
+     * @return 알림 로그 목록 (삭제된 알림은 제외)
+     */
+    @Query(NotificationLogRow.SELECT + "WHERE n.notificationId IN :ids")
+    List<NotificationLogRow> findLogByIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * 특정 ID 이하의 전체 알림 중 가장 큰 ID (읽음 위치 이동용)
+     * @param maxId 기준 알림 ID
+     * @return 전체 알림 ID (없으면 null)
+     */
+    @Query("SELECT MAX(n.notificationId) FROM Notification n WHERE n.user IS NULL AND n.isRead = false AND n.notificationId <= :maxId")
+    Integer findMaxBroadcastIdUpTo(@Param("maxId") Integer maxId);
 }
@@ -21,6 +21,10 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     /** 사용자명으로 조회 */
     Optional<User> findByUsername(String username);
 
+    /** 사용자명으로 ID만 조회 */
+    @Query("SELECT u.userId FROM User u WHERE u.username = :username")
+    Optional<Integer> findUserIdByUsername(@Param("username") String username);
+
     /** 이메일로 조회 */
     Optional<User> findByEmail(String email);
 
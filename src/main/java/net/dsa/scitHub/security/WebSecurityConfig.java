@@ -44,6 +44,12 @@ public class WebSecurityConfig {
                 .requestMatchers(PUBLIC_URLS).permitAll()   // 모두 접근 허용
                 // /admin/manageUser 경로로 들어오는 요청은 ADMIN 권한을 가진 사용자만 접근 가능
                 .requestMatchers("/admin/manageUser").hasRole("ADMIN")
+                // 운영용 엔드포인트 (게시판 목록 새로고침, 공지 알림 발송 현황, 알림 정리 결과)
+                .requestMatchers("/admin/boards/refresh", "/admin/announcement/fanout", "/admin/notification/retention").hasRole("ADMIN")
+                // 운영 지표 (Actuator: 캐시 적중률, 아웃박스/발송 카운터, JVM/커넥션 풀 정보)
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // 쪽지 일괄 발송 (기수/학생 그룹 전체) 및 작업 상태 조회
+                .requestMatchers("/admin/messages/bulk", "/admin/messages/bulk/*").hasRole("ADMIN")
                 .anyRequest().authenticated()               // 그 외의 모든 요청은 인증 필요
             )
             // 폼 로그인 설정
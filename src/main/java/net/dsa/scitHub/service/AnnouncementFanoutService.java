@@ -0,0 +1,214 @@
+package net.dsa.scitHub.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.FanoutJobDTO;
+import net.dsa.scitHub.dto.NotificationDTO;
+import net.dsa.scitHub.dto.NotificationEvent;
+import net.dsa.scitHub.entity.user.User;
+import net.dsa.scitHub.enums.NotificationType;
+import net.dsa.scitHub.repository.board.SseEmitterRepository;
+
+/**
+ * 전체 알림(공지사항, 공개 일정) 발송
+ * - 알림은 요청 트랜잭션 안에서 한 번만 저장 (수신자별 행 없음, 읽음 여부는 사용자별 읽음 위치로 관리)
+ * - 같은 트랜잭션에서 아웃박스에 기록하고 커밋 후 NotificationBroker로 발행, 각 노드가 이벤트를 받아 발송 작업을 큐에 등록
+ * - 작업은 그 노드에 접속 중인 사용자에게만 발송 스레드 풀에서 SSE로 실시간 발송
+ * - 최근 작업의 진행 상황/실패 수는 운영실에서 조회 가능
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AnnouncementFanoutService {
+
+    /** 발송 스레드 하나가 맡을 수신자 수 */
+    private static final int PUSH_BATCH_SIZE = 50;
+    /** 보관할 최근 작업 수 */
+    private static final int MAX_JOB_HISTORY = 20;
+
+    private final NotificationService ns;
+    private final NotificationInbox inbox;
+    private final SseEmitterRepository ser;
+    private final NotificationBroker broker;
+    private final NotificationOutboxDispatcher outbox;
+
+    /** 작업은 하나씩 순서대로 처리 (알림 순서 유지) */
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(namedThreads("fanout-job"));
+    /** SSE 발송용 스레드 풀 */
+    private final ExecutorService pushExecutor = Executors.newFixedThreadPool(4, namedThreads("fanout-push"));
+
+    private final AtomicLong jobSequence = new AtomicLong();
+    /** 최근 작업 (등록 순서, 오래된 것부터 제거) */
+    private final Map<Long, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Job> eldest) {
+            return size() > MAX_JOB_HISTORY;
+        }
+    });
+
+    /** 발송 작업 상태 */
+    private static class Job {
+        final long jobId;
+        final NotificationType type;
+        final String subject;           // 운영실 조회용 (알림 내용)
+        final Integer senderId;
+        final NotificationDTO notification;
+        final LocalDateTime queuedAt = LocalDateTime.now();
+        volatile String status = "QUEUED";
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+        final AtomicInteger total = new AtomicInteger();
+        final AtomicInteger pushed = new AtomicInteger();
+        final AtomicInteger pushFailed = new AtomicInteger();
+
+        Job(long jobId, NotificationType type, String subject, Integer senderId, NotificationDTO notification) {
+            this.jobId = jobId;
+            this.type = type;
+            this.subject = subject;
+            this.senderId = senderId;
+            this.notification = notification;
+        }
+
+        FanoutJobDTO toDTO() {
+            return FanoutJobDTO.builder()
+                .jobId(jobId)
+                .notificationId(notification.getNotificationId())
+                .notificationType(type.name())
+                .subject(subject)
+                .status(status)
+                .connectedRecipients(total.get())
+                .pushed(pushed.get())
+                .pushFailed(pushFailed.get())
+                .queuedAt(queuedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+        }
+    }
+
+    @PostConstruct
+    void subscribeBroker() {
+        broker.subscribe(event -> {
+            if (event.kind() == NotificationEvent.Kind.BROADCAST) {
+                enqueue(event);
+            }
+        });
+    }
+
+    /**
+     * 전체 알림 저장 후 아웃박스에 기록 (트랜잭션 안에서 호출, 발송은 커밋 후 시작)
+     * @param type 알림 종류 (NEW_ANNOUNCEMENT, NEW_EVENT)
+     * @param relatedEntity 알림의 원인이 된 객체 (Post, Event)
+     * @param sender 작성자 (수신자에서 제외)
+     */
+    public void broadcast(NotificationType type, Object relatedEntity, User sender) {
+        NotificationDTO notificationDTO = ns.createBroadcast(type, relatedEntity, sender);
+        outbox.append(NotificationEvent.Kind.BROADCAST, notificationDTO.getNotificationId(), null);
+    }
+
+    /**
+     * 이 노드에 도착한 전체 알림을 메모리 요약에 반영하고 발송 작업 등록
+     * @param event 전체 알림 이벤트
+     */
+    private void enqueue(NotificationEvent event) {
+        NotificationDTO notificationDTO = event.notification();
+        Job job = new Job(jobSequence.incrementAndGet(), event.notificationType(), notificationDTO.getContent(),
+            event.senderId(), notificationDTO);
+
+        inbox.broadcastAdded(notificationDTO, job.senderId);
+        jobs.put(job.jobId, job);
+        jobExecutor.submit(() -> run(job));
+        log.info("전체 알림 발송 작업 등록 [jobId={}, notificationId={}, type={}]", job.jobId, notificationDTO.getNotificationId(), job.type);
+    }
+
+    /**
+     * 최근 발송 작업 목록 (최신순)
+     * @return 작업 진행 상황 목록
+     */
+    public List<FanoutJobDTO> getRecentJobs() {
+        List<FanoutJobDTO> result = new ArrayList<>();
+        synchronized (jobs) {
+            for (Job job : jobs.values()) {
+                result.add(job.toDTO());
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void run(Job job) {
+        job.status = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+
+        try {
+            // 접속 중인 사용자만 대상 (미접속 사용자는 다음 조회 시 DB에서 확인)
+            Set<Integer> connectedUserIds = new LinkedHashSet<>();
+            for (SseEmitterRepository.Connection connection : ser.findAll()) {
+                if (!connection.userId().equals(job.senderId)) {
+                    connectedUserIds.add(connection.userId());
+                }
+            }
+            List<Integer> recipients = new ArrayList<>(connectedUserIds);
+            job.total.set(recipients.size());
+
+            List<CompletableFuture<Void>> pushes = new ArrayList<>();
+            for (int from = 0; from < recipients.size(); from += PUSH_BATCH_SIZE) {
+                List<Integer> batch = recipients.subList(from, Math.min(from + PUSH_BATCH_SIZE, recipients.size()));
+                pushes.add(CompletableFuture.runAsync(() -> pushBatch(job, batch), pushExecutor));
+            }
+            CompletableFuture.allOf(pushes.toArray(CompletableFuture[]::new)).join();
+            job.status = "DONE";
+        } catch (RuntimeException e) {
+            job.status = "FAILED";
+            log.error("전체 알림 발송 작업 실패 [jobId={}]: {}", job.jobId, e.getMessage(), e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            log.info("전체 알림 발송 작업 종료 [jobId={}, status={}, 발송={}/{}, 발송 실패={}]",
+                job.jobId, job.status, job.pushed.get(), job.total.get(), job.pushFailed.get());
+        }
+    }
+
+    private void pushBatch(Job job, List<Integer> userIds) {
+        for (Integer userId : userIds) {
+            if (ns.push(userId, job.notification)) {
+                job.pushed.incrementAndGet();
+            } else {
+                job.pushFailed.incrementAndGet();
+            }
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdown();
+        pushExecutor.shutdown();
+    }
+}
@@ -0,0 +1,155 @@
+package net.dsa.scitHub.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.entity.board.Board;
+import net.dsa.scitHub.repository.board.BoardRepository;
+
+/**
+ * 게시판 목록 메모리 보관 (이름 ↔ ID ↔ 설명)
+ * - 게시판은 거의 바뀌지 않으므로 기동 시 한 번 읽어 불변 스냅샷으로 보관
+ * - 게시판을 추가/수정한 뒤에는 refresh() 호출 (운영실 새로고침 엔드포인트)
+ * - 스냅샷에 없는 이름/ID를 찾으면 DB에 직접 추가된 경우를 대비해 최소 간격을 두고 다시 읽음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BoardRegistry {
+
+    /** 공지사항 게시판 이름 */
+    public static final List<String> ANNOUNCEMENT_BOARDS = List.of("announcement", "announcementIT", "announcementJP");
+    /** 문의 게시판 이름 */
+    public static final String INQUIRY_BOARD = "inquiry";
+
+    /** 없는 게시판 조회로 인한 재조회 최소 간격 */
+    private static final long MISS_RELOAD_INTERVAL_MILLIS = 10_000L;
+
+    private final BoardRepository br;
+
+    /**
+     * 게시판 정보
+     * @param boardId     게시판 ID
+     * @param name        게시판 이름
+     * @param description 게시판 설명
+     */
+    public record BoardInfo(Integer boardId, String name, String description) {
+    }
+
+    private record Snapshot(Map<String, BoardInfo> byName, Map<Integer, BoardInfo> byId) {
+    }
+
+    private volatile Snapshot snapshot;
+    private volatile long lastLoadedAt;
+
+    /**
+     * 기동 완료 후 게시판 목록 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * DB에서 게시판 목록을 다시 읽어 스냅샷 교체
+     * @return 게시판 수
+     */
+    public synchronized int refresh() {
+        Map<String, BoardInfo> byName = new HashMap<>();
+        Map<Integer, BoardInfo> byId = new HashMap<>();
+        for (Board board : br.findAll()) {
+            BoardInfo info = new BoardInfo(board.getBoardId(), board.getName(), board.getDescription());
+            byName.put(info.name(), info);
+            byId.put(info.boardId(), info);
+        }
+        snapshot = new Snapshot(Map.copyOf(byName), Map.copyOf(byId));
+        lastLoadedAt = System.currentTimeMillis();
+        log.info("게시판 목록 로딩 완료: {}개", byId.size());
+        return byId.size();
+    }
+
+    /**
+     * 이름으로 게시판 조회
+     * @param name 게시판 이름
+     * @return 게시판 정보
+     */
+    public Optional<BoardInfo> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        BoardInfo info = current().byName().get(name);
+        if (info == null && reloadOnMiss()) {
+            info = current().byName().get(name);
+        }
+        return Optional.ofNullable(info);
+    }
+
+    /**
+     * ID로 게시판 조회
+     * @param boardId 게시판 ID
+     * @return 게시판 정보
+     */
+    public Optional<BoardInfo> findById(Integer boardId) {
+        if (boardId == null) {
+            return Optional.empty();
+        }
+        BoardInfo info = current().byId().get(boardId);
+        if (info == null && reloadOnMiss()) {
+            info = current().byId().get(boardId);
+        }
+        return Optional.ofNullable(info);
+    }
+
+    /**
+     * 게시판 이름 → ID
+     * @param name 게시판 이름
+     * @return 게시판 ID (없으면 -1)
+     */
+    public int getIdByName(String name) {
+        return findByName(name).map(BoardInfo::boardId).orElse(-1);
+    }
+
+    /**
+     * 공지사항 게시판 여부
+     * @param boardId 게시판 ID
+     * @return 공지사항 게시판이면 true
+     */
+    public boolean isAnnouncement(Integer boardId) {
+        return findById(boardId).map(info -> ANNOUNCEMENT_BOARDS.contains(info.name())).orElse(false);
+    }
+
+    /**
+     * 문의 게시판 여부
+     * @param boardId 게시판 ID
+     * @return 문의 게시판이면 true
+     */
+    public boolean isInquiry(Integer boardId) {
+        return findById(boardId).map(info -> INQUIRY_BOARD.equals(info.name())).orElse(false);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 기동 이벤트 전에 요청이 들어온 경우
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private boolean reloadOnMiss() {
+        if (System.currentTimeMillis() - lastLoadedAt < MISS_RELOAD_INTERVAL_MILLIS) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+}
@@ -2,20 +2,30 @@ package net.dsa.scitHub.service;
 
 import org.springframework.stereotype.Service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.dsa.scitHub.repository.board.BoardRepository;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class BoardService {
-    private final BoardRepository br;
+    private final BoardRegistry brg;
 
+    /**
+     * 게시판 이름 → ID (메모리 게시판 목록 사용)
+     * @param boardName 게시판 이름
+     * @return 게시판 ID (없으면 -1)
+     */
     public int getBoardIdFromName(String boardName) {
-        return br.existsByName(boardName) ? br.findByName(boardName).get().getBoardId() : -1;
+        return brg.getIdByName(boardName);
+    }
+
+    /**
+     * 게시판 목록 다시 읽기 (게시판 추가/수정 후)
+     * @return 게시판 수
+     */
+    public int refreshBoards() {
+        return brg.refresh();
     }
 
 }
@@ -1,13 +1,17 @@
 package net.dsa.scitHub.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -17,8 +21,9 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dsa.scitHub.dto.CommentDTO;
+import net.dsa.scitHub.dto.PostCursorPageDTO;
 import net.dsa.scitHub.dto.PostDTO;
-import net.dsa.scitHub.entity.board.Board;
+import net.dsa.scitHub.dto.PostListRow;
 import net.dsa.scitHub.entity.board.Comment;
 import net.dsa.scitHub.entity.board.Post;
 import net.dsa.scitHub.entity.board.PostBookmark;
@@ -32,7 +37,8 @@ import net.dsa.scitHub.repository.board.PostBookmarkRepository;
 import net.dsa.scitHub.repository.board.PostLikeRepository;
 import net.dsa.scitHub.repository.board.PostRepository;
 import net.dsa.scitHub.repository.board.TagRepository;
-import net.dsa.scitHub.repository.user.UserRepository;
+import net.dsa.scitHub.utils.NgramTokenizer;
+import net.dsa.scitHub.utils.PostCursor;
 
 import net.dsa.scitHub.dto.BoardDTO;
 
@@ -42,7 +48,6 @@ import net.dsa.scitHub.dto.BoardDTO;
 @RequiredArgsConstructor
 public class CommunityService {
 
-    private final UserRepository ur;
     private final PostRepository pr;
     private final BoardRepository br;
     private final TagRepository tr;
@@ -50,6 +55,22 @@ public class CommunityService {
     private final PostLikeRepository plr;
     private final PostBookmarkRepository pbr;
     private final NotificationService ns;
+    private final PostSearchIndex psi;
+    private final ViewCountBuffer vcb;
+    private final PostListCache plc;
+    private final BoardRegistry brg;
+    private final CurrentUserProvider cu;
+
+    /** 게시판 목록 캐시 구분 */
+    private static final String CACHE_SCOPE = "community";
+
+    /** 게시판별 전체 글 수 캐시 유지 시간 */
+    private static final long BOARD_COUNT_TTL_MILLIS = 60_000;
+    /** 게시판별 전체 글 수 캐시 (키셋 목록의 근사 전체 건수용) */
+    private final Map<Integer, CachedCount> boardCountCache = new ConcurrentHashMap<>();
+
+    private record CachedCount(long count, long expiresAt) {
+    }
 
     // 게시판 관련 ----------------------------------------------------------------------------------
     /**
@@ -90,14 +111,14 @@ public class CommunityService {
      * @return
      */
     public BoardDTO getBoard(String name) {
-        Board board = br.findByName(name).orElseThrow(
+        BoardRegistry.BoardInfo board = brg.findByName(name).orElseThrow(
             () -> new EntityNotFoundException("해당 게시판을 찾을 수 없습니다.")
         );
 
         BoardDTO boardDTO = BoardDTO.builder()
-                                    .boardId(board.getBoardId())
-                                    .name(board.getName())
-                                    .description(board.getDescription())
+                                    .boardId(board.boardId())
+                                    .name(board.name())
+                                    .description(board.description())
                                     .build();
 
         return boardDTO;
@@ -129,36 +150,114 @@ public class CommunityService {
      * @return
      */
     public Page<PostDTO> findPostsByBoard(Integer boardId, Pageable pageable) {
-        Board board = br.findById(boardId).orElseThrow(
+        BoardRegistry.BoardInfo board = brg.findById(boardId).orElseThrow(
             () -> new EntityNotFoundException("해당 게시판을 찾을 수 없습니다.")
         );
 
-        Page<Post> postPage = pr.findByBoard_BoardId(board.getBoardId(), pageable);
+        // 앞쪽 페이지는 캐시에서, 그 외에는 목록 컬럼만 조회 (본문, 연관 엔티티 로딩 없음)
+        return plc.get(
+            plc.keyOf(CACHE_SCOPE, board.boardId(), null, null, pageable),
+            () -> pr.findListRowsByBoard(board.boardId(), pageable).map(this::toListDTO)
+        );
+    }
+
+    /**
+     * 목록 행 -> 목록용 DTO (버퍼에 쌓인 조회수 포함)
+     * @param row
+     * @return PostDTO
+     */
+    private PostDTO toListDTO(PostListRow row) {
+        PostDTO postDTO = PostDTO.convertToPostDTO(row);
+        postDTO.setViewCount(vcb.withPending(row.postId(), row.viewCount()));
+        return postDTO;
+    }
+
+    /**
+     * 게시판 내의 게시글 가져오기(키셋 페이징, 최신순)
+     * - (createdAt, postId) 기준으로 탐색하므로 페이지 깊이와 관계없이 일정한 비용
+     * - COUNT 쿼리는 withTotal=true일 때만, 캐시된 근사값으로 제공
+     * @param boardId   게시판 ID
+     * @param cursor    기준 커서 (없으면 첫 페이지)
+     * @param direction "next"(더 오래된 글) 또는 "prev"(더 최신 글)
+     * @param size      페이지당 글 수
+     * @param withTotal 근사 전체 건수 포함 여부
+     * @return 게시글 목록과 이전/다음 커서
+     */
+    public PostCursorPageDTO findPostsByBoardWithCursor(Integer boardId, String cursor, String direction, int size, boolean withTotal) {
+        if (brg.findById(boardId).isEmpty()) {
+            throw new EntityNotFoundException("해당 게시판을 찾을 수 없습니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        // 빈 커서는 첫 페이지 (방향과 관계없이 최신순으로 앞에서부터)
+        boolean isFirstPage = cursor == null || cursor.isBlank();
+        boolean backward = !isFirstPage && "prev".equals(direction);
+        List<PostListRow> posts;
+        if (isFirstPage) {
+            posts = pr.findFirstByBoardKeyset(boardId, limit);
+        } else {
+            PostCursor key = PostCursor.decode(cursor);
+            posts = backward
+                ? pr.findNewerByBoardKeyset(boardId, key.createdAt(), key.postId(), limit)
+                : pr.findOlderByBoardKeyset(boardId, key.createdAt(), key.postId(), limit);
+        }
+
+        boolean hasMore = posts.size() > size;
+        if (hasMore) {
+            posts = posts.subList(0, size);
+        }
+        if (backward) {
+            // 오래된 순으로 조회했으므로 최신순으로 뒤집음
+            posts = new ArrayList<>(posts);
+            Collections.reverse(posts);
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : !isFirstPage;
 
-        // 페이지의 Entity -> DTO
         List<PostDTO> postDTOList = new ArrayList<>();
-        for (Post post : postPage) {
-            PostDTO postDTO = PostDTO.builder()
-                                    .postId(post.getPostId())
-                                    .title(post.getTitle())
-                                    .username(post.getUser().getUsername())
-                                    .userNameKor(post.getUser().getNameKor())
-                                    .createdAt(post.getCreatedAt())
-                                    .viewCount(post.getViewCount())
-                                    .likeCount(post.getLikes().size())
-                                    .commentCount(post.getComments().size())
-                                    .build();
-            postDTOList.add(postDTO);
+        for (PostListRow row : posts) {
+            postDTOList.add(toListDTO(row));
         }
 
-        // List<DTO> -> Page<DTO>
-        Page<PostDTO> postDTOPage = new PageImpl<>(
-            postDTOList,                    // 실제 데이터
-            postPage.getPageable(),         // 페이지 정보
-            postPage.getTotalElements()     // 전체 항목 수
-        );
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!posts.isEmpty()) {
+            PostListRow first = posts.get(0);
+            PostListRow last = posts.get(posts.size() - 1);
+            if (hasNext) {
+                nextCursor = new PostCursor(last.createdAt(), last.postId()).encode();
+            }
+            if (hasPrev) {
+                prevCursor = new PostCursor(first.createdAt(), first.postId()).encode();
+            }
+        }
 
-        return postDTOPage;
+        return PostCursorPageDTO.builder()
+                                .content(postDTOList)
+                                .nextCursor(nextCursor)
+                                .prevCursor(prevCursor)
+                                .hasNext(hasNext)
+                                .hasPrev(hasPrev)
+                                .approximateTotal(withTotal ? getApproximateBoardCount(boardId) : null)
+                                .build();
+    }
+
+    /**
+     * 게시판 전체 글 수 (캐시된 근사값)
+     * @param boardId 게시판 ID
+     * @return 최대 BOARD_COUNT_TTL_MILLIS 전의 전체 글 수
+     */
+    private long getApproximateBoardCount(Integer boardId) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = boardCountCache.get(boardId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+        long count = pr.countByBoard_BoardId(boardId);
+        boardCountCache.put(boardId, new CachedCount(count, now + BOARD_COUNT_TTL_MILLIS));
+        return count;
     }
 
     /**
@@ -170,15 +269,37 @@ public class CommunityService {
      * @return
      */
     public Page<PostDTO> searchPosts(Integer boardId, String searchType, String keyword, Pageable pageable) {
-        Board board = br.findById(boardId).orElseThrow(
+        Integer targetBoardId = brg.findById(boardId).orElseThrow(
             () -> new EntityNotFoundException("해당 게시판을 찾을 수 없습니다.")
+        ).boardId();
+
+        // 앞쪽 페이지는 캐시에서 조회
+        return plc.get(
+            plc.keyOf(CACHE_SCOPE, targetBoardId, searchType, keyword, pageable),
+            () -> loadSearchPage(targetBoardId, searchType, keyword, pageable)
         );
-        boardId = board.getBoardId();
+    }
+
+    /**
+     * 게시판 내의 게시글 검색 (캐시 미적중 시)
+     * @param boardId
+     * @param searchType
+     * @param keyword
+     * @param pageable
+     * @return
+     */
+    private Page<PostDTO> loadSearchPage(Integer boardId, String searchType, String keyword, Pageable pageable) {
+        // 검색 색인이 준비되어 있으면 색인에서 관련도 순으로 탐색 (목록 컬럼만 조회)
+        // 한 글자 검색어는 부분 문자열 일치를 유지하기 위해 LIKE 검색 사용
+        Set<PostSearchIndex.Field> fields = PostSearchIndex.fieldsOf(searchType);
+        if (psi.isReady() && !fields.isEmpty() && !NgramTokenizer.isShortQuery(keyword)) {
+            return psi.search(boardId, keyword, fields, pageable).map(this::toListDTO);
+        }
 
         // 게시글 페이지 생성
         Page<Post> postPage;
 
-        // 리포지토리에서 검색 조건에 맞게 탐색
+        // 색인 구성 전에는 리포지토리에서 검색 조건에 맞게 탐색
         switch (searchType) {
             case "titleAndContent":
                 postPage = pr.findByBoardAndKeyword(boardId, keyword, pageable);
@@ -210,9 +331,9 @@ public class CommunityService {
                                     .username(post.getUser().getUsername())
                                     .userNameKor(post.getUser().getNameKor())
                                     .createdAt(post.getCreatedAt())
-                                    .viewCount(post.getViewCount())
-                                    .likeCount(post.getLikes().size())
-                                    .commentCount(post.getComments().size())
+                                    .viewCount(vcb.withPending(post.getPostId(), post.getViewCount()))
+                                    .likeCount(post.getLikeCount())
+                                    .commentCount(post.getCommentCount())
                                     .build();
             postDTOList.add(postDTO);
         }
@@ -239,17 +360,17 @@ public class CommunityService {
 
         // DTO -> Entity
         Post post = Post.builder()
-                    .board(br.findByName(postDTO.getBoard()).orElseThrow(
+                    .board(br.getReferenceById(brg.findByName(postDTO.getBoard()).orElseThrow(
                         () -> new EntityNotFoundException("해당 게시판을 찾을 수 없습니다.")
-                    ))
-                    .user(ur.findByUsername(postDTO.getUsername()).orElseThrow(
-                        () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
-                    ))
+                    ).boardId()))
+                    .user(cu.getReference(postDTO.getUsername()))
                     .title(postDTO.getTitle())
                     .content(postDTO.getContent())
                     .build();
         // 게시글 저장
         Post persistedPost = pr.save(post);
+        boardCountCache.remove(post.getBoard().getBoardId());
+        plc.invalidateBoard(post.getBoard().getBoardId());
 
         // 태그 추가
         List<Tag> tagArray = new ArrayList<>();
@@ -261,6 +382,8 @@ public class CommunityService {
         }
         // 태그 저장
         tr.saveAll(tagArray);
+        // 검색 색인 반영 (커밋 후)
+        psi.index(persistedPost, postDTO.getTagList());
 
         // 생성된 게시글의 식별자 반환
         return persistedPost.getPostId();
@@ -278,14 +401,12 @@ public class CommunityService {
         Post post = pr.findById(postId).orElseThrow(
             () -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.")
         );
-        // 현재 로그인 계정의 User 엔티티 탐색
-        User userEntity = ur.findByUsername(username).orElseThrow(
-            () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
-        );
+        // 현재 로그인 계정의 ID (세션의 인증 정보, DB 조회 없음)
+        Integer userId = cu.getUserId(username);
 
-        // viewCheck = true일 시 조회수 1 증가
+        // viewCheck = true일 시 조회수 1 증가 (버퍼에 누적 후 주기적으로 DB 반영)
         if (viewCheck) {
-            post.setViewCount(post.getViewCount() + 1);
+            vcb.increment(post.getPostId());
         }
 
         // Entity -> DTO 변환
@@ -298,18 +419,18 @@ public class CommunityService {
                             .avatarUrl(post.getUser().getAvatarUrl())
                             .title(post.getTitle())
                             .content(post.getContent())
-                            .viewCount(post.getViewCount())
-                            .likeCount(post.getLikes().size())
+                            .viewCount(vcb.withPending(post.getPostId(), post.getViewCount()))
+                            .likeCount(post.getLikeCount())
                             .createdAt(post.getCreatedAt())
                             .updatedAt(post.getUpdatedAt())
                             .commentList(post.getComments())
-                            .commentCount(post.getComments().size())
+                            .commentCount(post.getCommentCount())
                             .build();
         // 현재 유저가 좋아요를 눌렀었는지 체크
-        boolean isLiked = plr.existsByPost_PostIdAndUser_UserId(post.getPostId(), userEntity.getUserId());
+        boolean isLiked = plr.existsByPost_PostIdAndUser_UserId(post.getPostId(), userId);
         postDTO.setIsLiked(isLiked);
         // 현재 유저가 이 게시글을 북마크했었는지 체크
-        boolean isBookmarked = pbr.existsByPost_PostIdAndUser_UserId(post.getPostId(), userEntity.getUserId());
+        boolean isBookmarked = pbr.existsByPost_PostIdAndUser_UserId(post.getPostId(), userId);
         postDTO.setIsBookmarked(isBookmarked);
 
         // 태그 리스트를 List<Tag> -> List<String> 변환
@@ -338,15 +459,13 @@ public class CommunityService {
         Post post = pr.findById(postDTO.getPostId()).orElseThrow(
             () -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.")
         );
-        // 현재 로그인 계정의 User 엔티티 탐색
-        User userEntity = ur.findByUsername(username).orElseThrow(
-            () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
-        );
+        // 현재 로그인 계정의 ID
+        Integer userId = cu.getUserId(username);
 
         // 수정 권한 체크
         log.debug("게시글 작성자 : {}", post.getUser().getUserId());
-        log.debug("현재 로그인 유저 : {}", userEntity.getUserId());
-        if (post.getUser().getUserId() != userEntity.getUserId()) {
+        log.debug("현재 로그인 유저 : {}", userId);
+        if (!post.getUser().getUserId().equals(userId)) {
             throw new Exception("수정 권한이 없습니다.");
         }
 
@@ -355,6 +474,9 @@ public class CommunityService {
         post.setContent(postDTO.getContent());
         // 태그 데이터 반영
         updateTagList(postDTO.getPostId(), postDTO.getTagList());
+        // 검색 색인 반영 (커밋 후), 목록 캐시 무효화
+        psi.index(post, postDTO.getTagList());
+        plc.invalidateBoard(post.getBoard().getBoardId());
     }
 
     /**
@@ -369,14 +491,12 @@ public class CommunityService {
         Post post = pr.findById(postId).orElseThrow(
             () -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.")
         );
-        // 현재 로그인 계정의 User 엔티티 탐색
-        User userEntity = ur.findByUsername(username).orElseThrow(
-            () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
-        );
+        // 현재 로그인 계정의 ID
+        Integer userId = cu.getUserId(username);
         // 삭제 권한 체크
         log.debug("게시글 작성자 : {}", post.getUser().getUserId());
-        log.debug("현재 로그인 유저 : {}", userEntity.getUserId());
-        if (post.getUser().getUserId() != userEntity.getUserId()) {
+        log.debug("현재 로그인 유저 : {}", userId);
+        if (!post.getUser().getUserId().equals(userId)) {
             throw new Exception("수정 권한이 없습니다.");
         }
 
@@ -385,6 +505,9 @@ public class CommunityService {
 
         // 게시글 삭제 처리
         pr.delete(post);
+        psi.remove(postId);
+        boardCountCache.remove(post.getBoard().getBoardId());
+        plc.invalidateBoard(post.getBoard().getBoardId());
         return boardName;
     }
 
@@ -400,13 +523,11 @@ public class CommunityService {
         Post post = pr.findById(postId).orElseThrow(
             () -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.")
         );
-        // 현재 로그인 계정의 User 엔티티 탐색
-        User userEntity = ur.findByUsername(username).orElseThrow(
-            () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
-        );
+        // 현재 로그인 계정의 User 참조 (FK 지정용, SELECT 없음)
+        User userEntity = cu.getReference(username);
 
         // 자기 게시물에 좋아요 시도 시 예외 반환
-        if (post.getUser().getUserId() == userEntity.getUserId()) {
+        if (post.getUser().getUserId().equals(userEntity.getUserId())) {
             throw new RuntimeException("自分が作成したポストには「いいね！」できません。");
         }
         // 좋아요 엔티티 작성
@@ -417,12 +538,15 @@ public class CommunityService {
         if (postLikeExisting.isPresent()) {
             // 이미 존재하는 좋아요면 삭제
             plr.delete(postLikeExisting.get());
+            pr.decrementLikeCount(post.getPostId());
         } else {
             // 없으면 추가
             plr.save(postLike);
+            pr.incrementLikeCount(post.getPostId());
 
             // 좋아요 추가 시에만 게시글 작성자에게 알림 발송
-            ns.send(post.getUser(), NotificationType.NEW_LIKE_ON_POST, post);
+            // 짧은 시간 안의 좋아요 알림은 하나로 합쳐짐 ("N人が「いいね！」しました")
+            ns.send(post.getUser(), NotificationType.NEW_LIKE_ON_POST, post, userEntity);
         }
     }
     /** 게시글의 좋아요 개수 받아오기
@@ -430,7 +554,9 @@ public class CommunityService {
      * @return likeCount
      */
     public int getLikeCount(int postId) {
-        return plr.countByPost_PostId(postId);
+        return pr.findLikeCountByPostId(postId).orElseThrow(
+            () -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.")
+        );
     }
 
     /**
@@ -443,10 +569,8 @@ public class CommunityService {
         Post post = pr.findById(postId).orElseThrow(
             () -> new EntityNotFoundException("해당 게시글을 찾을 수 없습니다.")
         );
-        // 현재 로그인 계정의 User 엔티티 탐색
-        User userEntity = ur.findByUsername(username).orElseThrow(
-            () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
-        );
+        // 현재 로그인 계정의 User 참조 (FK 지정용, SELECT 없음)
+        User userEntity = cu.getReference(username);
 
         // 북마크 엔티티 작성
         PostBookmark postBookmark = PostBookmark.builder().user(userEntity).post(post).build();
@@ -581,10 +705,8 @@ public class CommunityService {
     public void makeNewComment(CommentDTO commentDTO, String username) throws Exception {
         // 댓글이 달릴 원 게시글이 존재 시
         if (pr.existsById(commentDTO.getPostId())) {
-            // 회원, 게시글 엔티티 조회
-            User user = ur.findByUsername(username).orElseThrow(
-                () -> new EntityNotFoundException("해당 회원이 존재하지 않습니다.")
-            );
+            // 회원 참조(FK 지정용), 게시글 엔티티 조회
+            User user = cu.getReference(username);
             Post post = pr.findById(commentDTO.getPostId()).orElseThrow(
                 () -> new EntityNotFoundException("해당 게시글이 존재하지 않습니다.")
             );
@@ -596,6 +718,7 @@ public class CommunityService {
                                     .build();
             // DB에 댓글 저장
             Comment savedComment = cr.save(comment);
+            pr.incrementCommentCount(post.getPostId());
 
             // 댓글 저장 후, 본인 글이 아닐 경우 게시글 작성자에게 알림 발송
             ns.send(post.getUser(), NotificationType.NEW_COMMENT_ON_POST, savedComment);
@@ -615,14 +738,14 @@ public class CommunityService {
             () -> new EntityNotFoundException("해당 댓글이 존재하지 않습니다.")
         );
         // 삭제 권한 체크
-        User loginUser = ur.findByUsername(username).orElseThrow(
-                () -> new EntityNotFoundException("해당 회원이 존재하지 않습니다.")
-        );
-        if ( (loginUser.getUserId() != comment.getUser().getUserId())) {
+        Integer loginUserId = cu.getUserId(username);
+        if (!loginUserId.equals(comment.getUser().getUserId())) {
             throw new Exception("삭제 권한이 없습니다.");
         }
         cr.delete(comment);
-
+        if (comment.getPost() != null) {
+            pr.decrementCommentCount(comment.getPost().getPostId());
+        }
     }
     /**
      * 댓글 수정
@@ -633,10 +756,8 @@ public class CommunityService {
             () -> new EntityNotFoundException("해당 댓글이 존재하지 않습니다.")
         );
         // 수정 권한 체크
-        User loginUser = ur.findByUsername(username).orElseThrow(
-                () -> new EntityNotFoundException("해당 회원이 존재하지 않습니다.")
-        );
-        if (loginUser.getUserId() != comment.getUser().getUserId()) {
+        Integer loginUserId = cu.getUserId(username);
+        if (!loginUserId.equals(comment.getUser().getUserId())) {
             throw new Exception("수정 권한이 없습니다.");
         }
         comment.setContent(commentDTO.getContent());
@@ -14,7 +14,6 @@ import net.dsa.scitHub.entity.company.CompanyReview;
 import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.repository.company.CompanyRepository;
 import net.dsa.scitHub.repository.company.CompanyReviewRepository;
-import net.dsa.scitHub.repository.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +22,7 @@ public class CompanyReviewService {
     @Autowired
     private final CompanyRepository cr;
     private final CompanyReviewRepository crr;
-    private final UserRepository ur;
+    private final CurrentUserProvider cu;
 
     /**
      * 회사 ID에 해당하는 모든 리뷰 목록을 조회
@@ -53,9 +52,8 @@ public class CompanyReviewService {
         Company company = cr.findById(companyId)
                 .orElseThrow(() -> new IllegalArgumentException("該当会社が見つかりません. id=" + companyId));
 
-        // 사용자 정보 조회 (username은 보통 email이나 id를 의미)
-        User user = ur.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません. username=" + username));
+        // 사용자 참조 (FK 지정용, SELECT 없음)
+        User user = cu.getReference(username);
 
         // 이미 해당 회사에 리뷰를 작성했는지 확인
         crr.findByCompany_CompanyIdAndUser_UserId(companyId, user.getUserId()).ifPresent(review -> {
@@ -14,7 +14,6 @@ import net.dsa.scitHub.entity.course.CourseReview;
 import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.repository.course.CourseRepository;
 import net.dsa.scitHub.repository.course.CourseReviewRepository;
-import net.dsa.scitHub.repository.user.UserRepository;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,7 +25,7 @@ public class CourseReviewService {
     private CourseRepository cr;
     @Autowired
     private CourseReviewRepository crr;
-    private final UserRepository ur;
+    private final CurrentUserProvider cu;
 
 
     /**
@@ -53,9 +52,8 @@ public class CourseReviewService {
         Course course = cr.findById(courseId)
                 .orElseThrow(() -> new IllegalArgumentException("該当コースが見つかりません. id=" + courseId));
 
-        // 사용자 정보 조회
-        User user = ur.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません. username=" + username));
+        // 사용자 참조 (FK 지정용, SELECT 없음)
+        User user = cu.getReference(username);
 
         // 이미 해당 강의에 리뷰를 작성했는지 확인
         crr.findByUser_UserIdAndCourse_CourseId(user.getUserId(), courseId).ifPresent(review -> {
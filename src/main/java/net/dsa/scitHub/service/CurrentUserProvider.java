@@ -0,0 +1,136 @@
+package net.dsa.scitHub.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.MypageDTO;
+import net.dsa.scitHub.entity.user.User;
+import net.dsa.scitHub.repository.user.UserRepository;
+import net.dsa.scitHub.security.AuthenticatedUser;
+
+/**
+ * 현재 로그인 사용자 조회 (요청 단위 캐시)
+ * - 사용자 ID: 로그인 시 세션에 저장된 AuthenticatedUser에서 꺼내므로 DB 조회 없음
+ *   (다른 사용자명이면 요청당 한 번만 조회)
+ * - FK 지정용 User: getReferenceById 프록시 (SELECT 없음)
+ * - 화면 표시용 정보(MypageDTO): 요청당 한 번만 조회, 개인정보 수정 시 다시 조회
+ * - 요청 밖(스케줄러, 비동기 작업)에서는 캐시 없이 바로 조회
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private static final String USER_IDS_ATTRIBUTE = CurrentUserProvider.class.getName() + ".userIds";
+    private static final String SNAPSHOT_ATTRIBUTE = CurrentUserProvider.class.getName() + ".snapshot";
+
+    private final UserRepository ur;
+
+    /**
+     * 사용자명으로 사용자 ID 조회
+     * @param username 사용자명 (로그인 아이디)
+     * @return 사용자 ID
+     * @throws EntityNotFoundException 사용자가 없는 경우
+     */
+    public Integer getUserId(String username) {
+        // 1. 로그인 사용자 본인이면 인증 정보에서 바로 꺼냄
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal
+                && principal.getUserId() != null && principal.getUsername().equals(username)) {
+            return principal.getUserId();
+        }
+
+        // 2. 요청 안에서 이미 조회한 사용자명
+        Map<String, Integer> userIds = requestCache(USER_IDS_ATTRIBUTE);
+        if (userIds != null && userIds.containsKey(username)) {
+            return userIds.get(username);
+        }
+
+        // 3. DB 조회 (ID만)
+        Integer userId = ur.findUserIdByUsername(username).orElseThrow(
+            () -> new EntityNotFoundException("해당 회원을 찾을 수 없습니다.")
+        );
+        if (userIds != null) {
+            userIds.put(username, userId);
+        }
+        return userId;
+    }
+
+    /**
+     * FK 지정용 사용자 참조 (필드에 접근하기 전까지 SELECT 없음)
+     * @param username 사용자명 (로그인 아이디)
+     * @return User 프록시
+     */
+    public User getReference(String username) {
+        return ur.getReferenceById(getUserId(username));
+    }
+
+    /**
+     * 화면 표시용 사용자 정보 (요청당 한 번 조회)
+     * @param username 사용자명 (로그인 아이디)
+     * @return MypageDTO - 요청 안에서 공유되므로 수정하지 말 것
+     * @throws EntityNotFoundException 사용자가 없는 경우
+     */
+    public MypageDTO getSnapshot(String username) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof MypageDTO cached
+                && username.equals(cached.getUserName())) {
+            return cached;
+        }
+
+        User entity = ur.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("該当するユーザーが見つかりません。IDをご確認のうえ、再度お試しください。"));
+        MypageDTO snapshot = MypageDTO.builder()
+                .userId(entity.getUserId())
+                .cohortNo(entity.getCohortNo())
+                .avatarUrl(entity.getAvatarUrl())
+                .userName(entity.getUsername())
+                .name(entity.getNameKor())
+                .birth(entity.getBirthDate())
+                .gender(entity.getGender().name())
+                .email(entity.getEmail())
+                .phone(entity.getPhone())
+                .role(entity.getRole().getDisplayName())
+                .build();
+
+        if (attributes != null) {
+            attributes.setAttribute(SNAPSHOT_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 화면 표시용 정보 다시 조회하도록 제거 (개인정보 수정 후 호출)
+     */
+    public void refresh() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            log.debug("현재 사용자 정보 캐시 제거");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer> requestCache(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object cache = attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+        if (cache == null) {
+            cache = new HashMap<String, Integer>();
+            attributes.setAttribute(name, cache, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, Integer>) cache;
+    }
+}
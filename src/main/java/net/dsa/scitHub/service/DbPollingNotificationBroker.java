@@ -0,0 +1,155 @@
+package net.dsa.scitHub.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.NotificationEvent;
+import net.dsa.scitHub.dto.NotificationLogRow;
+import net.dsa.scitHub.repository.user.NotificationRepository;
+
+/**
+ * notification 테이블을 로그로 사용하는 알림 브로커 (여러 노드 운영용, 외부 메시지 서버 불필요)
+ * - 커밋된 알림 행 자체가 이벤트이므로 publish는 아무것도 하지 않음
+ * - 모든 노드(발행한 노드 포함)가 주기적으로 마지막으로 읽은 ID 이후의 새 행과,
+ *   updated_at 기준으로 갱신(합쳐짐)된 행을 읽어 구독자에게 전달
+ * - 전달 지연은 최대 pollMillis (기본 1초)
+ * - ID는 INSERT 시점에 정해지고 커밋 순서와 다를 수 있으므로, 건너뛴 ID는 빈 자리로 기억해 두고
+ *   커밋되어 보일 때까지(최대 GAP_TIMEOUT_SECONDS) 매 주기 다시 조회
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.broker", havingValue = "db-polling")
+public class DbPollingNotificationBroker implements NotificationBroker {
+
+    /** 한 번에 읽을 최대 행 수 */
+    private static final int BATCH_SIZE = 500;
+    /** 노드 간 시계 차이 허용 범위 (갱신된 행은 이만큼 앞에서부터 다시 읽고 중복은 걸러냄) */
+    private static final long CLOCK_SKEW_SECONDS = 5;
+    /** 빈 자리 ID를 다시 조회하는 최대 시간 (롤백된 트랜잭션의 ID는 끝내 채워지지 않음) */
+    private static final long GAP_TIMEOUT_SECONDS = 60;
+    /** 기억해 둘 최대 빈 자리 수 */
+    private static final int MAX_GAPS = 1000;
+
+    private final NotificationRepository nr;
+
+    private final List<Consumer<NotificationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    private Integer lastId;                 // 마지막으로 전달한 새 행 ID (null이면 시작 전)
+    private LocalDateTime updatedSince;     // 갱신된 행을 읽을 기준 시각
+
+    /** 중복 전달 방지: 알림 ID → 마지막으로 전달한 합쳐진 상태 */
+    private record Delivered(int aggregateCount, LocalDateTime updatedAt) {
+    }
+
+    private final Map<Integer, Delivered> delivered = new HashMap<>();
+
+    /** 아직 커밋되지 않았을 수 있는 건너뛴 ID → 처음 발견한 시각 */
+    private final Map<Integer, LocalDateTime> gaps = new LinkedHashMap<>();
+
+    /**
+     * 기동 완료 후 현재 위치부터 읽기 시작 (기동 전 알림은 화면 조회 시 DB에서 표시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        lastId = nr.findMaxId();
+        updatedSince = LocalDateTime.now();
+        log.info("DB 알림 브로커 시작 [lastId={}]", lastId);
+    }
+
+    @Override
+    public void publish(NotificationEvent event) {
+        // 커밋된 행을 모든 노드가 폴링으로 읽으므로 따로 보내지 않음
+        log.trace("DB 알림 브로커: 폴링으로 전달 예정 [kind={}, notificationId={}]",
+            event.kind(), event.notification().getNotificationId());
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 새 행과 갱신된 행을 읽어 구독자에게 전달 (기본 1초 주기)
+     */
+    @Scheduled(fixedDelayString = "${notification.broker.pollMillis:1000}")
+    public synchronized void poll() {
+        if (lastId == null) {
+            return;
+        }
+        int knownMaxId = lastId;
+
+        // 1. 새 행 (ID 순서)
+        List<NotificationLogRow> rows;
+        do {
+            rows = nr.findLogAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (NotificationLogRow row : rows) {
+                rememberGaps(lastId + 1, row.notificationId());
+                deliverNew(row);
+                lastId = row.notificationId();
+            }
+        } while (rows.size() == BATCH_SIZE);
+
+        // 1-1. 앞서 건너뛴 ID 중 그 사이 커밋된 행
+        if (!gaps.isEmpty()) {
+            for (NotificationLogRow row : nr.findLogByIds(new ArrayList<>(gaps.keySet()))) {
+                gaps.remove(row.notificationId());
+                deliverNew(row);
+            }
+            LocalDateTime expired = LocalDateTime.now().minusSeconds(GAP_TIMEOUT_SECONDS);
+            gaps.values().removeIf(seenAt -> seenAt.isBefore(expired));
+        }
+
+        // 2. 이전에 전달한 행 중 갱신(합쳐짐)된 행 (갱신 시각 순서)
+        LocalDateTime from = updatedSince.minusSeconds(CLOCK_SKEW_SECONDS);
+        List<NotificationLogRow> updated = nr.findLogUpdatedSince(from, knownMaxId, PageRequest.of(0, BATCH_SIZE));
+        for (NotificationLogRow row : updated) {
+            // 같은 사용자의 반복 알림은 수가 그대로이므로 갱신 시각까지 비교
+            Delivered current = new Delivered(row.aggregateCount(), row.updatedAt());
+            if (!current.equals(delivered.get(row.notificationId()))) {
+                InProcessNotificationBroker.dispatch(listeners, row.toEvent(true));
+                delivered.put(row.notificationId(), current);
+            }
+            if (row.updatedAt().isAfter(updatedSince)) {
+                updatedSince = row.updatedAt();
+            }
+        }
+        delivered.values().removeIf(d -> d.updatedAt().isBefore(from));
+    }
+
+    /** 새 행 전달 */
+    private void deliverNew(NotificationLogRow row) {
+        InProcessNotificationBroker.dispatch(listeners, row.toEvent(false));
+        if (row.updatedAt() != null) {
+            // 이미 합쳐진 내용으로 전달했으므로 같은 상태의 갱신은 다시 보내지 않음
+            delivered.put(row.notificationId(), new Delivered(row.aggregateCount(), row.updatedAt()));
+        }
+    }
+
+    /** fromId 이상 toId 미만의 건너뛴 ID를 빈 자리로 기억 (MAX_GAPS 초과분은 버림) */
+    private void rememberGaps(int fromId, int toId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int id = fromId; id < toId; id++) {
+            if (gaps.size() >= MAX_GAPS) {
+                log.warn("DB 알림 브로커: 빈 자리 ID가 너무 많아 일부는 다시 조회하지 않습니다. [from={}, to={}]", id, toId);
+                return;
+            }
+            gaps.put(id, now);
+        }
+    }
+}
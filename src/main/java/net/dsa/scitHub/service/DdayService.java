@@ -14,7 +14,6 @@ import net.dsa.scitHub.dto.DdayDTO;
 import net.dsa.scitHub.entity.schedule.Dday;
 import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.repository.schedule.DdayRepository;
-import net.dsa.scitHub.repository.user.UserRepository;
 import net.dsa.scitHub.security.AuthenticatedUser;
 
 @Service
@@ -25,7 +24,7 @@ public class DdayService {
     
     // DB 저장을 위한 Repository 주입
     private final DdayRepository dr;
-    private final UserRepository ur;
+    private final CurrentUserProvider cu;
 
     /**
      * dday를 등록하는 함수
@@ -36,7 +35,7 @@ public class DdayService {
     public DdayDTO createDday(DdayDTO ddayDTO, AuthenticatedUser userDetails) {
         
         // Entity에 넣기 위해 User객체를 생성
-        User user = ur.findByUsername(userDetails.getId()).orElseThrow(() -> new EntityNotFoundException("아이디가 없습니다."));
+        User user = cu.getReference(userDetails.getId());
         
         // 로그인 정보와 form에서 받은 정보로 Dday Entity 만듦
         Dday ddayEntity = Dday.builder()
@@ -60,8 +59,8 @@ public class DdayService {
      * 특정 사용자의 모든 디데이 목록을 조회하는 메서드
      */
     public List<DdayDTO> findAllDdays(AuthenticatedUser userDetails) {
-        // 인증 정보로 User Entity 조회
-        User user = ur.findByUsername(userDetails.getUsername()).orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        // 인증 정보로 User 참조 (조회 조건용, SELECT 없음)
+        User user = cu.getReference(userDetails.getUsername());
         
         // 해당 User Entity와 연관된 모든 Dday Entity 목록을 DB에서 조회
             // 새로 Repository에서 정의된 조회 함수 사용
@@ -141,11 +140,8 @@ public class DdayService {
      * @param pinnedIds 고정할 D-Day ID 목록
      */
     public void updatePinnedDdays(String username, List<Integer> pinnedIds) {
-        // String 타입의 username으로 User 엔티티를 조회
-        User user = ur.findByUsername(username).orElseThrow(() -> new EntityNotFoundException("User not found with username: " + username));
-
-        // 조회한 User의 UserId를 가져옴
-        Integer userId = user.getUserId();
+        // String 타입의 username으로 UserId를 가져옴
+        Integer userId = cu.getUserId(username);
 
         // 모든 D-Day를 고쟁해제 상태로
         dr.unpinAllByUserId(userId);
@@ -17,7 +17,6 @@ import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.enums.NotificationType;
 import net.dsa.scitHub.enums.Visibility;
 import net.dsa.scitHub.repository.schedule.EventRepository;
-import net.dsa.scitHub.repository.user.UserRepository;
 import net.dsa.scitHub.security.AuthenticatedUser;
 
 @Service
@@ -28,8 +27,8 @@ public class EventService {
 
     // DB 저장을 위한 Repository 주입
     private final EventRepository er;
-    private final UserRepository ur;
-    private final NotificationService ns;
+    private final CurrentUserProvider cu;
+    private final AnnouncementFanoutService afs;
 
     /**
      * 일정 등록 처리 함수
@@ -50,9 +49,8 @@ public class EventService {
 
         log.debug("@@eventDTO 확인 {}", eventDTO);
 
-        User eventUser = ur.findByUsername(user.getId()).orElseThrow(
-            () -> new EntityNotFoundException("該当するIDが見つかりませんでした。")
-        );
+        // FK 지정용 참조 (SELECT 없음)
+        User eventUser = cu.getReference(user.getId());
 
         Event event = Event.builder()
                         .visibility(eventDTO.getVisibility())
@@ -70,11 +68,9 @@ public class EventService {
         // 알림 전송
         // 생성자가 관리자이고, 생성된 일정이 전체 공개(PUBLIC) 일정인 경우에만 알림 전송
         if (isAdmin && savedEvent.getVisibility() == Visibility.PUBLIC) {
-            List<User> allUsersExceptCreator = ur.findByUserIdNotAndIsActiveTrue(eventUser.getUserId());
-            for (User recipient : allUsersExceptCreator) {
-                ns.send(recipient, NotificationType.NEW_EVENT, savedEvent);
-            }
-            log.info("관리자가 전체 일정을 등록하여 {}명에게 알림을 전송했습니다.", allUsersExceptCreator.size());
+            // 전체 알림 한 건만 저장하고, 실시간 발송은 커밋 후 백그라운드에서 처리
+            afs.broadcast(NotificationType.NEW_EVENT, savedEvent, eventUser);
+            log.info("관리자가 전체 일정을 등록하여 전체 알림을 등록했습니다. eventId: {}", savedEvent.getEventId());
         }
 
         return EventDTO.convertToEventDTO(savedEvent);
@@ -237,9 +233,8 @@ public class EventService {
     }
 
     // username을 userId로 변환해주는 함수
+    // (로그인 사용자 본인이면 세션의 인증 정보에서 꺼내므로 DB 조회 없음)
     public Integer convertUsernameToUserId(String username) {
-        User user = ur.findByUsername(username).orElseThrow(() -> new EntityNotFoundException("해당 사용자를 찾을 수 없습니다."));
-        Integer userId = user.getUserId();
-        return userId;
+        return cu.getUserId(username);
     }
 }
@@ -0,0 +1,56 @@
+package net.dsa.scitHub.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.NotificationEvent;
+
+/**
+ * 같은 노드 안에서 바로 전달하는 알림 브로커 (기본, 단일 노드 운영용)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "notification.broker", havingValue = "in-process", matchIfMissing = true)
+public class InProcessNotificationBroker implements NotificationBroker {
+
+    private final List<Consumer<NotificationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NotificationEvent event) {
+        if (!dispatch(listeners, event)) {
+            // 아웃박스가 재시도하도록 실패를 알림
+            throw new IllegalStateException("알림 이벤트 처리에 실패한 구독자가 있습니다. [notificationId="
+                + event.notification().getNotificationId() + "]");
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 구독자에게 이벤트 전달 (한 구독자의 오류가 다른 구독자에게 영향을 주지 않도록 개별 처리)
+     * @param listeners 구독자 목록
+     * @param event     알림 이벤트
+     * @return 모든 구독자가 정상 처리했으면 true
+     */
+    static boolean dispatch(List<Consumer<NotificationEvent>> listeners, NotificationEvent event) {
+        boolean succeeded = true;
+        for (Consumer<NotificationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.error("알림 이벤트 처리 중 오류 [kind={}, notificationId={}]: {}",
+                    event.kind(), event.notification().getNotificationId(), e.getMessage(), e);
+                succeeded = false;
+            }
+        }
+        return succeeded;
+    }
+}
@@ -0,0 +1,389 @@
+package net.dsa.scitHub.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.MessageBulkJobDTO;
+import net.dsa.scitHub.dto.MessageBulkSendRequestDTO;
+import net.dsa.scitHub.entity.user.Message;
+import net.dsa.scitHub.entity.user.User;
+import net.dsa.scitHub.enums.NotificationType;
+import net.dsa.scitHub.repository.user.MessageRepository;
+import net.dsa.scitHub.repository.user.UserRepository;
+
+/**
+ * 쪽지 일괄 발송 (운영실, 기수 또는 학생 그룹 전체)
+ * - 요청에서는 수신자만 확인하고 작업을 등록한 뒤 바로 응답 (진행 상황은 작업 ID로 조회)
+ * - 작업 스레드에서 수신자를 chunkSize명씩 나눠 트랜잭션 하나로 저장
+ *   (대화방 생성/잠금 → 쪽지 JDBC 배치 INSERT → 대화방 요약 배치 UPDATE)
+ * - 저장이 커밋된 묶음마다 검색 색인 반영과 알림 등록 (알림 실패는 쪽지 발송 결과에 영향 없음)
+ * - 최근 작업의 수신자별 결과는 운영실에서 조회 가능
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MessageBulkSendService {
+
+    /** 보관할 최근 작업 수 */
+    private static final int MAX_JOB_HISTORY = 20;
+    /** 쪽지 제목 최대 길이 (message.title) */
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final UserRepository ur;
+    private final MessageRepository mr;
+    private final CurrentUserProvider cu;
+    private final NotificationService ns;
+    private final MessageSearchIndex msi;
+    private final MessageUnreadCounter muc;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${message.bulk.chunkSize:100}")
+    private int chunkSize;          // 트랜잭션 하나에서 저장할 쪽지 수
+
+    /** 작업은 하나씩 순서대로 처리 */
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "message-bulk");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong jobSequence = new AtomicLong();
+    /** 최근 작업 (등록 순서, 오래된 것부터 제거) */
+    private final Map<Long, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Job> eldest) {
+            return size() > MAX_JOB_HISTORY;
+        }
+    });
+
+    /** 수신자별 발송 상태 */
+    private static class Recipient {
+        final Integer userId;
+        final String username;
+        final String name;
+        volatile String status = "PENDING";
+        volatile Integer messageId;
+        volatile boolean notified;
+        volatile String error;
+
+        Recipient(User user) {
+            this.userId = user.getUserId();
+            this.username = user.getUsername();
+            this.name = user.getNameKor();
+        }
+
+        MessageBulkJobDTO.Recipient toDTO() {
+            return MessageBulkJobDTO.Recipient.builder()
+                .userId(userId)
+                .username(username)
+                .name(name)
+                .status(status)
+                .messageId(messageId)
+                .notified(notified)
+                .error(error)
+                .build();
+        }
+    }
+
+    /** 발송 작업 상태 */
+    private static class Job {
+        final long jobId;
+        final String target;
+        final Integer senderId;
+        final String title;
+        final String content;
+        final List<Recipient> recipients;
+        final LocalDateTime queuedAt = LocalDateTime.now();
+        volatile String status = "QUEUED";
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+
+        Job(long jobId, String target, Integer senderId, String title, String content, List<Recipient> recipients) {
+            this.jobId = jobId;
+            this.target = target;
+            this.senderId = senderId;
+            this.title = title;
+            this.content = content;
+            this.recipients = recipients;
+        }
+
+        MessageBulkJobDTO toDTO(boolean withRecipients) {
+            int sent = 0;
+            int failed = 0;
+            int notified = 0;
+            for (Recipient recipient : recipients) {
+                if ("SENT".equals(recipient.status)) {
+                    sent++;
+                } else if ("FAILED".equals(recipient.status)) {
+                    failed++;
+                }
+                if (recipient.notified) {
+                    notified++;
+                }
+            }
+            return MessageBulkJobDTO.builder()
+                .jobId(jobId)
+                .target(target)
+                .title(title)
+                .status(status)
+                .total(recipients.size())
+                .sent(sent)
+                .failed(failed)
+                .notified(notified)
+                .queuedAt(queuedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .recipients(withRecipients ? recipients.stream().map(Recipient::toDTO).toList() : null)
+                .build();
+        }
+    }
+
+    /**
+     * 일괄 발송 작업 등록 (수신자 확인 후 바로 반환, 발송은 작업 스레드에서 진행)
+     * @param request        발송 대상과 쪽지 내용
+     * @param senderUsername 발신자 아이디
+     * @return 등록된 작업 (수신자 목록 포함)
+     * @throws IllegalArgumentException 대상/내용이 올바르지 않거나 수신자가 없는 경우
+     */
+    public MessageBulkJobDTO submit(MessageBulkSendRequestDTO request, String senderUsername) {
+        if ((request.getCohortNo() == null) == (request.getStudentGroupId() == null)) {
+            throw new IllegalArgumentException("送信対象（期またはグループ）を一つだけ指定してください。");
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()
+                || request.getContent() == null || request.getContent().isBlank()) {
+            throw new IllegalArgumentException("タイトルと内容を入力してください。");
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("タイトルは" + MAX_TITLE_LENGTH + "文字以内で入力してください。");
+        }
+
+        Integer senderId = cu.getUserId(senderUsername);
+        List<User> users;
+        String target;
+        if (request.getCohortNo() != null) {
+            users = ur.findActiveByCohortNo(request.getCohortNo());
+            target = "cohort:" + request.getCohortNo();
+        } else {
+            users = ur.findByStudentGroup_StudentGroupId(request.getStudentGroupId()).stream()
+                .filter(user -> Boolean.TRUE.equals(user.getIsActive()))
+                .toList();
+            target = "group:" + request.getStudentGroupId();
+        }
+
+        // 자기 자신에게는 보내지 않음
+        List<Recipient> recipients = new ArrayList<>();
+        for (User user : users) {
+            if (!user.getUserId().equals(senderId)) {
+                recipients.add(new Recipient(user));
+            }
+        }
+        if (recipients.isEmpty()) {
+            throw new IllegalArgumentException("送信対象のユーザーがいません。");
+        }
+
+        Job job = new Job(jobSequence.incrementAndGet(), target, senderId, request.getTitle(), request.getContent(),
+            List.copyOf(recipients));
+        jobs.put(job.jobId, job);
+        jobExecutor.submit(() -> run(job));
+        log.info("쪽지 일괄 발송 작업 등록 [jobId={}, target={}, 수신자={}]", job.jobId, target, recipients.size());
+        return job.toDTO(true);
+    }
+
+    /**
+     * 발송 작업 조회
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황과 수신자별 결과 (보관 기간이 지났거나 없으면 null)
+     */
+    public MessageBulkJobDTO getJob(Long jobId) {
+        Job job = jobs.get(jobId);
+        return job != null ? job.toDTO(true) : null;
+    }
+
+    /**
+     * 최근 발송 작업 목록 (최신순, 수신자별 결과 제외)
+     * @return 작업 진행 상황 목록
+     */
+    public List<MessageBulkJobDTO> getRecentJobs() {
+        List<MessageBulkJobDTO> result = new ArrayList<>();
+        synchronized (jobs) {
+            for (Job job : jobs.values()) {
+                result.add(job.toDTO(false));
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void run(Job job) {
+        job.status = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+
+        try {
+            for (int from = 0; from < job.recipients.size(); from += chunkSize) {
+                List<Recipient> chunk = job.recipients.subList(from, Math.min(from + chunkSize, job.recipients.size()));
+                LocalDateTime createdAt = LocalDateTime.now();
+                List<Integer> messageIds;
+                try {
+                    messageIds = transactionTemplate.execute(tx -> writeChunk(job, chunk, createdAt));
+                } catch (RuntimeException e) {
+                    // 묶음 단위로 롤백되므로 묶음 전체를 실패로 표시하고 다음 묶음 진행
+                    log.warn("쪽지 일괄 발송 묶음 실패 [jobId={}, 수신자={}]: {}", job.jobId, chunk.size(), e.getMessage(), e);
+                    for (Recipient recipient : chunk) {
+                        recipient.status = "FAILED";
+                        recipient.error = String.valueOf(e.getMessage());
+                    }
+                    continue;
+                }
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).messageId = messageIds.get(i);
+                    chunk.get(i).status = "SENT";
+                }
+                notifyChunk(job, chunk);
+            }
+            job.status = "DONE";
+        } catch (RuntimeException e) {
+            job.status = "FAILED";
+            log.error("쪽지 일괄 발송 작업 실패 [jobId={}]: {}", job.jobId, e.getMessage(), e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            MessageBulkJobDTO result = job.toDTO(false);
+            log.info("쪽지 일괄 발송 작업 종료 [jobId={}, status={}, 발송={}/{}, 실패={}, 알림={}]",
+                job.jobId, job.status, result.getSent(), result.getTotal(), result.getFailed(), result.getNotified());
+        }
+    }
+
+    /**
+     * 수신자 한 묶음의 쪽지 저장 (트랜잭션 하나)
+     * @return 수신자 순서대로 저장된 쪽지 ID
+     */
+    private List<Integer> writeChunk(Job job, List<Recipient> chunk, LocalDateTime createdAt) {
+        List<Integer> userIds = chunk.stream().map(recipient -> recipient.userId).toList();
+
+        // 1. 대화방이 없는 쌍은 생성 (유니크 키로 동시 발송과 겹쳐도 한 행만)
+        SqlParameterSource[] pairs = new SqlParameterSource[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            Integer userId = chunk.get(i).userId;
+            pairs[i] = new MapSqlParameterSource()
+                .addValue("lowId", Math.min(job.senderId, userId))
+                .addValue("highId", Math.max(job.senderId, userId));
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT IGNORE INTO conversation (user_low_id, user_high_id, low_unread_count, high_unread_count, created_at) " +
+            "VALUES (:lowId, :highId, 0, 0, NOW())", pairs);
+
+        // 2. 대화방 잠금 (개별 발송과 마지막 쪽지/읽지 않은 수 갱신이 겹치지 않도록)
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("senderId", job.senderId)
+            .addValue("userIds", userIds);
+        Map<Integer, Integer> conversationIds = new HashMap<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList(
+                "SELECT conversation_id, user_low_id, user_high_id FROM conversation " +
+                "WHERE (user_low_id = :senderId AND user_high_id IN (:userIds)) " +
+                "OR (user_high_id = :senderId AND user_low_id IN (:userIds)) FOR UPDATE", params)) {
+            Integer lowId = ((Number) row.get("user_low_id")).intValue();
+            Integer highId = ((Number) row.get("user_high_id")).intValue();
+            conversationIds.put(lowId.equals(job.senderId) ? highId : lowId, ((Number) row.get("conversation_id")).intValue());
+        }
+
+        // 3. 쪽지 배치 INSERT
+        SqlParameterSource[] messages = new SqlParameterSource[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            Integer userId = chunk.get(i).userId;
+            messages[i] = new MapSqlParameterSource()
+                .addValue("senderId", job.senderId)
+                .addValue("receiverId", userId)
+                .addValue("conversationId", conversationIds.get(userId))
+                .addValue("title", job.title)
+                .addValue("content", job.content)
+                .addValue("createdAt", createdAt);
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO message (sender_id, receiver_id, conversation_id, title, content, is_read, " +
+            "deleted_by_sender, deleted_by_receiver, created_at) " +
+            "VALUES (:senderId, :receiverId, :conversationId, :title, :content, 0, 0, 0, :createdAt)",
+            messages, keyHolder, new String[] {"message_id"});
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException("保存されたメッセージ数が一致しません。");
+        }
+        List<Integer> messageIds = new ArrayList<>();
+        for (Map<String, Object> key : keys) {
+            messageIds.add(((Number) key.values().iterator().next()).intValue());
+        }
+
+        // 4. 대화방 요약 배치 UPDATE (마지막 쪽지, 수신자의 읽지 않은 수)
+        SqlParameterSource[] summaries = new SqlParameterSource[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            Integer userId = chunk.get(i).userId;
+            summaries[i] = new MapSqlParameterSource()
+                .addValue("conversationId", conversationIds.get(userId))
+                .addValue("messageId", messageIds.get(i))
+                .addValue("createdAt", createdAt)
+                .addValue("receiverId", userId);
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE conversation SET last_message_id = :messageId, last_message_at = :createdAt, " +
+            "low_unread_count = low_unread_count + CASE WHEN user_low_id = :receiverId THEN 1 ELSE 0 END, " +
+            "high_unread_count = high_unread_count + CASE WHEN user_high_id = :receiverId THEN 1 ELSE 0 END " +
+            "WHERE conversation_id = :conversationId", summaries);
+
+        // 5. 읽지 않은 쪽지 수 (커밋 후 반영)
+        for (Integer userId : userIds) {
+            muc.add(userId, 1);
+        }
+        return messageIds;
+    }
+
+    /**
+     * 저장된 묶음의 검색 색인 반영 / 알림 등록 (알림은 아웃박스를 거쳐 커밋 후 발송)
+     */
+    private void notifyChunk(Job job, List<Recipient> chunk) {
+        List<Integer> messageIds = chunk.stream().map(recipient -> recipient.messageId).toList();
+        try {
+            List<Message> messages = transactionTemplate.execute(tx -> mr.findWithUsersByMessageIdIn(messageIds));
+            if (messages == null) {
+                return;
+            }
+            for (Message message : messages) {
+                msi.index(message);
+            }
+            transactionTemplate.executeWithoutResult(tx -> {
+                for (Message message : messages) {
+                    ns.send(message.getReceiver(), NotificationType.NEW_MESSAGE, message);
+                }
+            });
+            for (Recipient recipient : chunk) {
+                recipient.notified = true;
+            }
+        } catch (RuntimeException e) {
+            log.warn("쪽지 일괄 발송 알림 등록 실패 [jobId={}, 수신자={}]: {}", job.jobId, chunk.size(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdown();
+    }
+}
@@ -0,0 +1,126 @@
+package net.dsa.scitHub.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 쪽지 정리 (매일 새벽, 알림 보관 기간 정리 이후)
+ * - 쪽지 삭제는 삭제한 사용자 쪽에만 표시하므로, 발신자/수신자 모두 삭제한 행만 실제로 지움
+ * - 대상 ID를 PK 순서로 chunkSize건씩 찾아 별도 트랜잭션으로 처리
+ *   (쪽지에 연결된 알림 삭제 → 쪽지 삭제 → 마지막 쪽지가 지워진 대화방 요약 다시 지정)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MessagePurgeService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationInbox inbox;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${message.purge.chunkSize:500}")
+    private int chunkSize;          // 트랜잭션 하나에서 처리할 행 수
+
+    @Value("${message.purge.pauseMillis:100}")
+    private long pauseMillis;       // 트랜잭션 사이 대기 시간 (다른 요청에 잠금 양보)
+
+    /**
+     * 매일 새벽 4시 45분에 정리 실행
+     */
+    @Scheduled(cron = "${message.purge.cron:0 45 4 * * *}")
+    public void runScheduled() {
+        run();
+    }
+
+    /**
+     * 양쪽 모두 삭제한 쪽지 정리 (동시에 하나만 실행)
+     * @return 삭제된 쪽지 수
+     */
+    public synchronized int run() {
+        long start = System.currentTimeMillis();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("limit", chunkSize);
+
+        int rows = 0;
+        int notifications = 0;
+        int chunks = 0;
+        int afterId = 0;
+        while (true) {
+            // (deleted_by_sender, deleted_by_receiver) 인덱스로 대상 ID만 찾고, 삭제는 PK로 지정한 행만 잠금
+            params.addValue("afterId", afterId);
+            List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT message_id FROM message " +
+                "WHERE deleted_by_sender = 1 AND deleted_by_receiver = 1 AND message_id > :afterId " +
+                "ORDER BY message_id LIMIT :limit",
+                params, Integer.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int[] result = transactionTemplate.execute(tx -> purgeChunk(ids));
+            if (result != null) {
+                rows += result[0];
+                notifications += result[1];
+            }
+            chunks++;
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+
+        if (notifications > 0) {
+            // 최근 알림 / 읽지 않은 수에 지워진 알림이 포함되었을 수 있으므로 메모리 요약을 다시 읽게 함
+            inbox.evictAll();
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        meterRegistry.counter("message.purge.rows").increment(rows);
+        meterRegistry.timer("message.purge.time").record(elapsed, TimeUnit.MILLISECONDS);
+        log.info("삭제된 쪽지 정리: 쪽지 {}건, 알림 {}건, {}회, {}ms", rows, notifications, chunks, elapsed);
+        return rows;
+    }
+
+    /**
+     * ID 목록에 해당하는 쪽지와 연결된 알림 삭제 (트랜잭션 하나)
+     * @return [삭제된 쪽지 수, 삭제된 알림 수]
+     */
+    private int[] purgeChunk(List<Integer> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        int notifications = jdbcTemplate.update("DELETE FROM notification WHERE message_id IN (:ids)", params);
+        // 조건을 다시 확인해 양쪽 모두 삭제한 행만 지움
+        int rows = jdbcTemplate.update(
+            "DELETE FROM message WHERE message_id IN (:ids) AND deleted_by_sender = 1 AND deleted_by_receiver = 1",
+            params);
+        jdbcTemplate.update(
+            "UPDATE conversation c SET " +
+            "c.last_message_id = (SELECT MAX(m.message_id) FROM message m WHERE m.conversation_id = c.conversation_id), " +
+            "c.last_message_at = (SELECT MAX(m.created_at) FROM message m WHERE m.conversation_id = c.conversation_id) " +
+            "WHERE c.last_message_id IN (:ids)",
+            params);
+        return new int[] {rows, notifications};
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
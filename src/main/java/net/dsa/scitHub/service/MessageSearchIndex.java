@@ -0,0 +1,227 @@
+package net.dsa.scitHub.service;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.entity.user.Message;
+import net.dsa.scitHub.entity.user.User;
+import net.dsa.scitHub.repository.user.MessageRepository;
+import net.dsa.scitHub.utils.InvertedIndex;
+import net.dsa.scitHub.utils.NgramTokenizer;
+import net.dsa.scitHub.utils.TransactionUtils;
+
+/**
+ * 쪽지함 전문 검색 색인 (사용자별)
+ * - 사용자마다 자신의 받은/보낸 쪽지만 담은 역색인을 두어, 검색 비용이 그 사용자의 쪽지 수에만 비례
+ * - 쪽지 하나는 발신자와 수신자 색인에 각각 들어감 (AUTHOR 필드는 상대방 이름)
+ * - 기동 시 DB 전체 쪽지를 배치로 읽어 구성하고, 발송/삭제는 트랜잭션 커밋 후 반영
+ * - 삭제는 쪽지를 삭제한 사용자의 색인에서만 제거 (상대방 쪽지함에는 그대로 남음)
+ * - 색인 구성이 끝나기 전에는 isReady()가 false → 호출 측은 기존 LIKE 검색을 사용
+ * - 토큰 단위 일치이므로 영문/숫자(영문 사용자 이름 등)는 단어 접두어로만 찾음 (단어 중간 일치는 안 됨)
+ *   한 글자 검색어는 호출 측에서 LIKE 검색을 사용 (NgramTokenizer.isShortQuery)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MessageSearchIndex {
+
+    /** 색인 필드 */
+    public enum Field {
+        TITLE, CONTENT, AUTHOR
+    }
+
+    /** 쪽지함 구분 (색인 소유자 기준) */
+    public enum Box {
+        RECEIVED, SENT
+    }
+
+    /** 기동 시 한 번에 읽어 올 쪽지 수 */
+    private static final int BATCH_SIZE = 500;
+
+    private static final Map<Field, Double> WEIGHTS = Map.of(
+        Field.TITLE, 3.0,
+        Field.CONTENT, 1.0,
+        Field.AUTHOR, 2.0
+    );
+
+    private final MessageRepository mr;
+
+    /** 사용자 ID → 그 사용자의 쪽지 색인 */
+    private final Map<Integer, InvertedIndex<Field, Box>> indexes = new ConcurrentHashMap<>();
+
+    /** 색인 소유자와 쪽지 ID */
+    private record Touched(Integer userId, Integer messageId) {
+    }
+
+    /**
+     * 초기 색인 중에 변경된 (사용자, 쪽지) (초기 색인이 오래된 내용으로 덮어쓰지 않도록)
+     * - 한쪽이 삭제해도 상대방 색인에는 초기 색인이 그대로 넣을 수 있도록 사용자별로 기록
+     * - 확인과 반영은 사용자 색인 단위로 잠가서 진행 (확인 직후 삭제된 쪽지를 다시 넣지 않도록)
+     */
+    private final Set<Touched> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building = false;
+    private volatile boolean ready = false;
+
+    /**
+     * 검색 유형 → 검색 대상 필드
+     * @param searchType 화면에서 넘어오는 검색 유형
+     * @return 검색 대상 필드 (알 수 없는 유형이면 빈 집합)
+     */
+    public static Set<Field> fieldsOf(String searchType) {
+        if (searchType == null) {
+            return EnumSet.noneOf(Field.class);
+        }
+        return switch (searchType) {
+            case "title" -> EnumSet.of(Field.TITLE);
+            case "content" -> EnumSet.of(Field.CONTENT);
+            case "author" -> EnumSet.of(Field.AUTHOR);
+            case "all" -> EnumSet.allOf(Field.class);
+            default -> EnumSet.noneOf(Field.class);
+        };
+    }
+
+    /** 초기 색인 완료 여부 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 한 사용자의 쪽지함 검색
+     * @param userId   사용자 ID
+     * @param box      받은/보낸 쪽지함
+     * @param keyword  검색어
+     * @param fields   검색 대상 필드
+     * @param pageable 페이지 정보 (정렬은 무시하고 관련도 순)
+     * @return 관련도 순으로 정렬된 쪽지 ID 페이지
+     */
+    public Page<Integer> search(Integer userId, Box box, String keyword, Set<Field> fields, Pageable pageable) {
+        InvertedIndex<Field, Box> index = indexes.get(userId);
+        if (index == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        InvertedIndex.Result result = index.search(keyword, fields, box::equals,
+            pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.ids(), pageable, result.totalCount());
+    }
+
+    /**
+     * 쪽지 색인 요청 (커밋 후 발신자/수신자 색인에 반영)
+     * - 엔티티 값은 호출 시점(트랜잭션 안)에 읽어 둠
+     * @param message 저장된 쪽지
+     */
+    public void index(Message message) {
+        Integer messageId = message.getMessageId();
+        User sender = message.getSender();
+        User receiver = message.getReceiver();
+        Integer senderId = sender.getUserId();
+        Integer receiverId = receiver.getUserId();
+        Map<Field, String> senderFields = toFields(message.getTitle(), message.getContent(), receiver.getNameKor(), receiver.getUsername());
+        Map<Field, String> receiverFields = toFields(message.getTitle(), message.getContent(), sender.getNameKor(), sender.getUsername());
+        TransactionUtils.afterCommit(() -> {
+            apply(senderId, messageId, index -> index.put(messageId, Box.SENT, senderFields));
+            apply(receiverId, messageId, index -> index.put(messageId, Box.RECEIVED, receiverFields));
+        });
+    }
+
+    /**
+     * 한 사용자의 색인에서 쪽지 제거 요청 (커밋 후 반영)
+     * @param userId    사용자 ID
+     * @param messageId 쪽지 ID
+     */
+    public void remove(Integer userId, Integer messageId) {
+        TransactionUtils.afterCommit(() -> apply(userId, messageId, index -> index.remove(messageId)));
+    }
+
+    /**
+     * 애플리케이션 기동 후 전체 쪽지 색인
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        building = true;
+        long start = System.currentTimeMillis();
+        int count = 0;
+        try {
+            int lastId = 0;
+            Pageable batch = PageRequest.of(0, BATCH_SIZE);
+            while (true) {
+                List<Object[]> rows = mr.findSearchSourceAfter(lastId, batch);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (Object[] row : rows) {
+                    Integer messageId = (Integer) row[0];
+                    lastId = messageId;
+                    String title = (String) row[3];
+                    String content = (String) row[4];
+                    // 자기 쪽에서 삭제한 쪽지는 그 사용자 색인에 넣지 않음
+                    if (!Boolean.TRUE.equals(row[9])) {
+                        putIfUntouched((Integer) row[1], messageId, Box.SENT,
+                            toFields(title, content, (String) row[7], (String) row[8]));
+                    }
+                    if (!Boolean.TRUE.equals(row[10])) {
+                        putIfUntouched((Integer) row[2], messageId, Box.RECEIVED,
+                            toFields(title, content, (String) row[5], (String) row[6]));
+                    }
+                    count++;
+                }
+            }
+            ready = true;
+            log.info("쪽지 검색 색인 구성 완료: {}건, 사용자 {}명, {}ms", count, indexes.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("쪽지 검색 색인 구성 실패 (LIKE 검색으로 동작): {}", e.getMessage(), e);
+        } finally {
+            building = false;
+            touchedDuringBuild.clear();
+        }
+    }
+
+    private InvertedIndex<Field, Box> indexOf(Integer userId) {
+        return indexes.computeIfAbsent(userId, id -> new InvertedIndex<>(Field.class, WEIGHTS));
+    }
+
+    /** 발송/삭제 반영 (사용자 색인을 잠그고, 초기 색인 중이면 변경 기록) */
+    private void apply(Integer userId, Integer messageId, Consumer<InvertedIndex<Field, Box>> change) {
+        InvertedIndex<Field, Box> index = indexOf(userId);
+        synchronized (index) {
+            if (building) {
+                touchedDuringBuild.add(new Touched(userId, messageId));
+            }
+            change.accept(index);
+        }
+    }
+
+    /** 초기 색인: 그 사이 발송/삭제가 반영된 (사용자, 쪽지)는 건너뜀 */
+    private void putIfUntouched(Integer userId, Integer messageId, Box box, Map<Field, String> fields) {
+        InvertedIndex<Field, Box> index = indexOf(userId);
+        synchronized (index) {
+            if (!touchedDuringBuild.contains(new Touched(userId, messageId))) {
+                index.put(messageId, box, fields);
+            }
+        }
+    }
+
+    private Map<Field, String> toFields(String title, String content, String otherNameKor, String otherUsername) {
+        Map<Field, String> fields = new EnumMap<>(Field.class);
+        fields.put(Field.TITLE, title);
+        fields.put(Field.CONTENT, NgramTokenizer.stripHtml(content));
+        fields.put(Field.AUTHOR, otherNameKor + " " + otherUsername);
+        return fields;
+    }
+}
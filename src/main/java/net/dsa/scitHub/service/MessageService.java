@@ -1,27 +1,52 @@
 package net.dsa.scitHub.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.ConversationDTO;
+import net.dsa.scitHub.dto.ConversationPageDTO;
 import net.dsa.scitHub.dto.MessageCreateRequestDto;
 import net.dsa.scitHub.dto.MessageResponseDto;
+import net.dsa.scitHub.entity.user.Conversation;
 import net.dsa.scitHub.entity.user.Message;
 import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.enums.NotificationType;
+import net.dsa.scitHub.repository.user.ConversationRepository;
 import net.dsa.scitHub.repository.user.MessageRepository;
 import net.dsa.scitHub.repository.user.UserRepository;
+import net.dsa.scitHub.utils.NgramTokenizer;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Service
+@Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MessageService {
 
+    /** 대화 내역 한 페이지의 최대 쪽지 수 */
+    private static final int MAX_THREAD_PAGE_SIZE = 100;
+
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final ConversationRepository conversationRepository;
     private final NotificationService notificationService;
+    private final MessageSearchIndex msi;
+    private final MessageUnreadCounter muc;
+    private final CurrentUserProvider cu;
 
     /**
      * 새 메시지를 생성하고 저장합니다.
@@ -36,13 +61,22 @@ public class MessageService {
         User receiver = findUserByUsername(requestDto.getReceiverUsername());
 
         // 나에게 보내는 메시지였을 시에는 예외 발생
-        if (sender.getUserId() == receiver.getUserId()) {
+        if (sender.getUserId().equals(receiver.getUserId())) {
             throw new IllegalArgumentException("自分宛のメッセージは送信できません。");
         }
 
+        // 대화방을 잠그고 쪽지 저장 (같은 대화방의 동시 발송은 순서대로 마지막 쪽지/읽지 않은 수 갱신)
+        Conversation conversation = lockConversation(sender.getUserId(), receiver.getUserId());
         Message message = requestDto.toEntity(sender, receiver);
+        message.setConversation(conversation);
         Message savedMessage = messageRepository.save(message);
 
+        conversation.setLastMessageId(savedMessage.getMessageId());
+        conversation.setLastMessageAt(savedMessage.getCreatedAt());
+        addUnread(conversation, receiver.getUserId(), 1);
+        muc.add(receiver.getUserId(), 1);
+        msi.index(savedMessage);
+
         notificationService.send(receiver, NotificationType.NEW_MESSAGE, savedMessage);
 
         return MessageResponseDto.from(savedMessage);
@@ -60,9 +94,14 @@ public class MessageService {
     public Page<MessageResponseDto> getReceivedMessages(String receiverUsername, String searchType, String searchKeyword, Pageable pageable) {
         User receiver = findUserByUsername(receiverUsername);
         Page<Message> messages;
+        Set<MessageSearchIndex.Field> fields = MessageSearchIndex.fieldsOf(searchType);
         if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
             messages = messageRepository.findByReceiver_UserId(receiver.getUserId(), pageable);
+        } else if (msi.isReady() && !fields.isEmpty() && !NgramTokenizer.isShortQuery(searchKeyword)) {
+            // 검색 색인이 준비되어 있으면 사용자 색인에서 관련도 순으로 탐색 (한 글자 검색어는 LIKE 검색)
+            messages = searchIndex(receiver.getUserId(), MessageSearchIndex.Box.RECEIVED, searchKeyword, fields, pageable);
         } else {
+            // 색인 구성 전이나 한 글자 검색어는 LIKE 검색
             switch (searchType) {
                 case "author":
                     messages = messageRepository.findReceivedMessagesBySenderName(receiver.getUserId(), searchKeyword, pageable);
@@ -93,9 +132,14 @@ public class MessageService {
     public Page<MessageResponseDto> getSentMessages(String senderUsername, String searchType, String searchKeyword, Pageable pageable) {
         User sender = findUserByUsername(senderUsername);
         Page<Message> messages;
+        Set<MessageSearchIndex.Field> fields = MessageSearchIndex.fieldsOf(searchType);
         if (searchKeyword == null || searchKeyword.trim().isEmpty()) {
             messages = messageRepository.findBySender_UserId(sender.getUserId(), pageable);
+        } else if (msi.isReady() && !fields.isEmpty() && !NgramTokenizer.isShortQuery(searchKeyword)) {
+            // 검색 색인이 준비되어 있으면 사용자 색인에서 관련도 순으로 탐색 (한 글자 검색어는 LIKE 검색)
+            messages = searchIndex(sender.getUserId(), MessageSearchIndex.Box.SENT, searchKeyword, fields, pageable);
         } else {
+            // 색인 구성 전이나 한 글자 검색어는 LIKE 검색
             switch (searchType) {
                 case "author":
                     messages = messageRepository.findSentMessagesByReceiverName(sender.getUserId(), searchKeyword, pageable);
@@ -133,24 +177,47 @@ public class MessageService {
         // 수신자 정보가 존재하고, 현재 사용자가 수신자이며, 아직 안 읽은 메시지라면 읽음 처리
         if (message.getReceiver() != null && message.getReceiver().getUserId().equals(user.getUserId()) && !message.getIsRead()) {
             message.setIsRead(true);
+            if (message.getConversation() != null) {
+                Conversation conversation = lockConversation(message.getConversation().getConversationId());
+                addUnread(conversation, user.getUserId(), -1);
+            }
+            muc.add(user.getUserId(), -1);
         }
 
         return MessageResponseDto.from(message);
     }
 
     /**
-     * 특정 사용자의 읽지 않은 메시지 개수를 조회합니다.
+     * 특정 사용자의 읽지 않은 메시지 개수를 조회합니다. (메모리 값, 처음 조회할 때만 DB 조회)
      *
      * @param receiverUsername String - 수신자 아이디
      * @return Long - 읽지 않은 메시지 개수
      */
     public Long countUnreadMessages(String receiverUsername) {
-        User receiver = findUserByUsername(receiverUsername);
-        return messageRepository.countUnreadMessages(receiver.getUserId());
+        return muc.get(cu.getUserId(receiverUsername));
+    }
+
+    /**
+     * 특정 사용자가 받은 메시지를 모두 읽음으로 변경합니다.
+     *
+     * @param receiverUsername String - 수신자 아이디
+     * @return int - 읽음 처리된 메시지 수
+     */
+    @Transactional
+    public int markAllAsRead(String receiverUsername) {
+        Integer receiverId = cu.getUserId(receiverUsername);
+        int marked = messageRepository.markAllAsReadByReceiver(receiverId);
+        if (marked > 0) {
+            conversationRepository.clearUnread(receiverId);
+            muc.add(receiverId, -marked);
+        }
+        return marked;
     }
 
     /**
      * 메시지를 삭제합니다. 발신자 또는 수신자만 삭제할 수 있습니다.
+     * 삭제한 사용자 쪽에서만 보이지 않게 표시하며(UPDATE 한 번), 실제 행은 양쪽 모두 삭제한 뒤
+     * MessagePurgeService가 정리합니다.
      *
      * @param messageId Integer - 삭제할 메시지 ID
      * @param username  String - 현재 로그인한 사용자 아이디
@@ -161,13 +228,239 @@ public class MessageService {
         Message message = findMessageById(messageId);
         validateMessageAccess(message, user.getUserId());
 
-        // 현재는 DB에서 바로 삭제합니다.
-        // TODO: '보낸사람에게서 삭제', '받은사람에게서 삭제' 상태를 관리하는 방식으로 변경을 고려해볼 수 있습니다.
-        messageRepository.delete(message);
+        // 더티 체킹으로 삭제 표시 (발신자/수신자 본인 쪽만)
+        if (message.getSender().getUserId().equals(user.getUserId())) {
+            message.setDeletedBySender(true);
+        }
+        if (message.getReceiver().getUserId().equals(user.getUserId())) {
+            message.setDeletedByReceiver(true);
+            // 읽지 않은 쪽지를 지우면 읽음으로 처리해 읽지 않은 수에서 제외
+            if (!message.getIsRead()) {
+                message.setIsRead(true);
+                if (message.getConversation() != null) {
+                    Conversation conversation = lockConversation(message.getConversation().getConversationId());
+                    addUnread(conversation, user.getUserId(), -1);
+                }
+                muc.add(user.getUserId(), -1);
+            }
+        }
+        msi.remove(user.getUserId(), messageId);
+    }
+
+    // --- 대화방 ---
+
+    /**
+     * 사용자가 참가한 대화방 목록을 조회합니다. (마지막 쪽지 최신순)
+     * 자기 쪽에서 쪽지를 모두 삭제한 대화방은 제외하고, 마지막 쪽지는 사용자가 볼 수 있는 쪽지로 표시합니다.
+     *
+     * @param username String - 현재 로그인한 사용자 아이디
+     * @param size     int - 최대 조회 건수
+     * @return List<ConversationDTO> - 대화방 목록
+     */
+    public List<ConversationDTO> getConversations(String username, int size) {
+        User user = findUserByUsername(username);
+        int limit = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+
+        List<Conversation> conversations = conversationRepository.findByParticipant(user.getUserId(), PageRequest.of(0, limit));
+        if (conversations.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 삭제는 한쪽에만 표시되므로, 마지막 쪽지는 조회한 사용자가 볼 수 있는 쪽지로 다시 지정
+        List<Integer> conversationIds = conversations.stream().map(Conversation::getConversationId).toList();
+        Map<Integer, Object[]> lastVisible = new HashMap<>();
+        for (Object[] row : messageRepository.findLastVisibleByConversations(conversationIds, user.getUserId())) {
+            lastVisible.put((Integer) row[0], row);
+        }
+
+        List<ConversationDTO> result = new ArrayList<>();
+        for (Conversation conversation : conversations) {
+            Object[] last = lastVisible.get(conversation.getConversationId());
+            if (last == null) {
+                // 목록 조회 직후 남은 쪽지를 삭제한 경우
+                continue;
+            }
+            ConversationDTO dto = toConversationDTO(conversation, user.getUserId());
+            dto.setLastMessageId((Integer) last[1]);
+            dto.setLastMessageAt((LocalDateTime) last[2]);
+            result.add(dto);
+        }
+        return result;
+    }
+
+    /**
+     * 상대방과의 대화 내역을 키셋 방식으로 조회합니다. (최신 쪽지부터)
+     * 첫 페이지를 조회하면 대화방에서 받은 쪽지를 모두 읽음 처리합니다.
+     *
+     * @param username      String - 현재 로그인한 사용자 아이디
+     * @param otherUsername String - 상대방 아이디
+     * @param before        Integer - 이 쪽지 ID보다 오래된 쪽지만 조회 (null이면 최신부터)
+     * @param size          int - 최대 조회 건수
+     * @return ConversationPageDTO - 대화 내역 한 페이지
+     */
+    @Transactional
+    public ConversationPageDTO getConversation(String username, String otherUsername, Integer before, int size) {
+        User user = findUserByUsername(username);
+        User other = findUserByUsername(otherUsername);
+        int limit = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+
+        Conversation conversation = conversationRepository.findByPair(
+                Math.min(user.getUserId(), other.getUserId()), Math.max(user.getUserId(), other.getUserId()))
+                .orElse(null);
+        if (conversation == null) {
+            // 아직 주고받은 쪽지가 없음
+            return ConversationPageDTO.builder()
+                    .conversation(ConversationDTO.builder()
+                            .otherUserId(other.getUserId())
+                            .otherUsername(other.getUsername())
+                            .otherName(other.getNameKor())
+                            .unreadCount(0)
+                            .build())
+                    .messages(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 확인
+        List<Message> messages = messageRepository.findThreadBefore(conversation.getConversationId(), user.getUserId(),
+                before != null ? before : Integer.MAX_VALUE, PageRequest.of(0, limit + 1));
+        boolean hasNext = messages.size() > limit;
+        if (hasNext) {
+            messages = messages.subList(0, limit);
+        }
+
+        ConversationDTO conversationDTO = toConversationDTO(conversation, user.getUserId());
+        if (before == null && conversationDTO.getUnreadCount() > 0) {
+            Conversation locked = lockConversation(conversation.getConversationId());
+            int marked = messageRepository.markThreadAsRead(conversation.getConversationId(), user.getUserId());
+            addUnread(locked, user.getUserId(), -marked);
+            muc.add(user.getUserId(), -marked);
+            log.debug("대화방 읽음 처리 [conversationId={}, userId={}, count={}]", conversation.getConversationId(), user.getUserId(), marked);
+        }
+
+        return ConversationPageDTO.builder()
+                .conversation(conversationDTO)
+                .messages(messages.stream().map(MessageResponseDto::from).toList())
+                .nextCursor(hasNext ? messages.get(messages.size() - 1).getMessageId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 대화방이 없는 기존 쪽지에 대화방 지정 (기동 시 1회, 채울 쪽지가 없으면 아무것도 하지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillConversations() {
+        int conversations = conversationRepository.backfillConversations();
+        int messages = conversationRepository.backfillMessages();
+        int summaries = conversationRepository.backfillSummaries();
+        if (conversations + messages + summaries > 0) {
+            log.info("쪽지 대화방 채우기 완료 [대화방={}, 쪽지={}, 요약={}]", conversations, messages, summaries);
+        }
     }
 
     // --- Helper Methods ---
 
+    /**
+     * 사용자 쪽지 색인에서 검색하고, 색인 순위대로 쪽지를 조회합니다.
+     *
+     * @param userId   Integer - 쪽지함 소유자 ID
+     * @param box      MessageSearchIndex.Box - 받은/보낸 쪽지함
+     * @param keyword  String - 검색어
+     * @param fields   Set<MessageSearchIndex.Field> - 검색 대상 필드
+     * @param pageable Pageable - 페이징 정보 (정렬은 무시하고 관련도 순)
+     * @return Page<Message> - 검색 결과 페이지
+     */
+    private Page<Message> searchIndex(Integer userId, MessageSearchIndex.Box box, String keyword,
+            Set<MessageSearchIndex.Field> fields, Pageable pageable) {
+        Page<Integer> ids = msi.search(userId, box, keyword, fields, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        // IN 조회 결과를 색인 순위대로 재정렬 (색인 반영 직전에 삭제된 쪽지는 제외)
+        Map<Integer, Message> messageMap = new HashMap<>();
+        for (Message message : messageRepository.findWithUsersByMessageIdIn(ids.getContent())) {
+            messageMap.put(message.getMessageId(), message);
+        }
+        List<Message> messages = new ArrayList<>();
+        for (Integer id : ids.getContent()) {
+            Message message = messageMap.get(id);
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return new PageImpl<>(messages, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * 두 사용자의 대화방을 잠그고 조회합니다. 없으면 생성합니다.
+     * - 행을 먼저 만든 뒤 잠금 (없는 쌍을 FOR UPDATE로 잠그면 갭 락이 되어, 두 사용자가 동시에
+     *   첫 쪽지를 보낼 때 양쪽 INSERT가 교착 상태가 됨)
+     * - 이미 있는 대화방에는 INSERT IGNORE를 실행하지 않음 (중복 키 공유 잠금 → 배타 잠금 승격 교착 방지)
+     *
+     * @param userId1 Integer - 참가자 ID
+     * @param userId2 Integer - 참가자 ID
+     * @return Conversation - 잠근 대화방
+     */
+    private Conversation lockConversation(Integer userId1, Integer userId2) {
+        int lowId = Math.min(userId1, userId2);
+        int highId = Math.max(userId1, userId2);
+        if (!conversationRepository.existsByPair(lowId, highId)) {
+            conversationRepository.insertIfAbsent(lowId, highId);
+        }
+        return conversationRepository.findByPairForUpdate(lowId, highId)
+                .orElseThrow(() -> new IllegalStateException("会話を作成できませんでした。"));
+    }
+
+    /**
+     * 대화방을 잠그고 조회합니다.
+     *
+     * @param conversationId Integer - 대화방 ID
+     * @return Conversation - 잠근 대화방
+     */
+    private Conversation lockConversation(Integer conversationId) {
+        return conversationRepository.findByIdForUpdate(conversationId)
+                .orElseThrow(() -> new IllegalStateException("会話が見つかりませんでした。"));
+    }
+
+    /**
+     * 참가자 한 명의 읽지 않은 쪽지 수를 변경합니다. (0 미만으로 내려가지 않음)
+     *
+     * @param conversation Conversation - 잠근 대화방
+     * @param userId       Integer - 참가자 ID
+     * @param delta        int - 변경할 수
+     */
+    private void addUnread(Conversation conversation, Integer userId, int delta) {
+        if (conversation.getUserLow().getUserId().equals(userId)) {
+            conversation.setLowUnreadCount(Math.max(0, conversation.getLowUnreadCount() + delta));
+        } else {
+            conversation.setHighUnreadCount(Math.max(0, conversation.getHighUnreadCount() + delta));
+        }
+    }
+
+    /**
+     * 대화방을 조회한 사용자 기준 요약으로 변환합니다.
+     *
+     * @param conversation Conversation - 대화방
+     * @param userId       Integer - 조회한 사용자 ID
+     * @return ConversationDTO - 대화방 요약
+     */
+    private ConversationDTO toConversationDTO(Conversation conversation, Integer userId) {
+        boolean isLow = conversation.getUserLow().getUserId().equals(userId);
+        User other = isLow ? conversation.getUserHigh() : conversation.getUserLow();
+        return ConversationDTO.builder()
+                .conversationId(conversation.getConversationId())
+                .otherUserId(other.getUserId())
+                .otherUsername(other.getUsername())
+                .otherName(other.getNameKor())
+                .lastMessageId(conversation.getLastMessageId())
+                .lastMessageAt(conversation.getLastMessageAt())
+                .unreadCount(isLow ? conversation.getLowUnreadCount() : conversation.getHighUnreadCount())
+                .build();
+    }
+
     /**
      * 사용자 아이디로 User 엔티티를 조회합니다. 없으면 예외를 발생시킵니다.
      *
@@ -192,6 +485,7 @@ public class MessageService {
 
     /**
      * 현재 사용자가 메시지에 접근할 권한(발신자 또는 수신자)이 있는지 확인합니다.
+     * 자기 쪽에서 이미 삭제한 메시지는 없는 메시지로 취급합니다.
      *
      * @param message Message - 확인할 메시지 엔티티
      * @param userId  Integer - 현재 사용자의 ID
@@ -204,5 +498,8 @@ public class MessageService {
         if (!isSender && !isReceiver) {
             throw new SecurityException("アクセス権限がないため、メッセージを表示/削除できません。");
         }
+        if ((!isSender || message.getDeletedBySender()) && (!isReceiver || message.getDeletedByReceiver())) {
+            throw new IllegalArgumentException("メッセージが見つかりませんでした。");
+        }
     }
 }
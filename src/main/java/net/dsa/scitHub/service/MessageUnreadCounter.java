@@ -0,0 +1,116 @@
+package net.dsa.scitHub.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.repository.user.MessageRepository;
+import net.dsa.scitHub.utils.TransactionUtils;
+
+/**
+ * 사용자별 읽지 않은 쪽지 수 메모리 보관 (쪽지 배지)
+ * - 처음 조회할 때만 DB에서 COUNT, 이후에는 발송 / 읽음 / 삭제 시 커밋 후 증감
+ * - 주기적으로 보관 중인 사용자의 값을 DB와 맞춤 (놓친 증감이나 다른 서버에서의 변경 보정)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MessageUnreadCounter {
+
+    /** 보정 쿼리 하나에 담을 사용자 수 */
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final MessageRepository mr;
+
+    /** 사용자 ID → 읽지 않은 쪽지 수 */
+    private final Map<Integer, AtomicLong> counts = new ConcurrentHashMap<>();
+    /** 사용자별 변경 번호: DB에서 읽는 동안 변경이 있었으면 읽은 값을 보관하지 않음 */
+    private final Map<Integer, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * 읽지 않은 쪽지 수 조회 (없으면 DB에서 읽어서 보관)
+     * @param userId 사용자 ID
+     * @return 읽지 않은 쪽지 수
+     */
+    public long get(Integer userId) {
+        AtomicLong count = counts.get(userId);
+        if (count != null) {
+            return count.get();
+        }
+
+        long generation = generationOf(userId).get();
+        long loaded = mr.countUnreadMessages(userId);
+
+        // 읽는 동안 변경이 있었으면 이번 결과만 사용하고 보관하지 않음 (다음 조회 시 다시 읽음)
+        if (generationOf(userId).get() == generation) {
+            counts.putIfAbsent(userId, new AtomicLong(loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * 읽지 않은 쪽지 수 증감 요청 (커밋 후 반영, 0 미만으로 내려가지 않음)
+     * @param userId 수신자 ID
+     * @param delta  변경할 수
+     */
+    public void add(Integer userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            generationOf(userId).incrementAndGet();
+            AtomicLong count = counts.get(userId);
+            if (count != null) {
+                count.updateAndGet(value -> Math.max(0, value + delta));
+            }
+        });
+    }
+
+    /**
+     * 보관 중인 값을 DB와 맞춤 (기본 10분 주기)
+     */
+    @Scheduled(fixedDelayString = "${message.unread.reconcileMillis:600000}")
+    public void reconcile() {
+        List<Integer> userIds = new ArrayList<>(counts.keySet());
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Integer> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+
+            Map<Integer, Long> before = new HashMap<>();
+            for (Integer userId : batch) {
+                before.put(userId, generationOf(userId).get());
+            }
+            Map<Integer, Long> actual = new HashMap<>();
+            for (Object[] row : mr.countUnreadMessagesByReceivers(batch)) {
+                actual.put((Integer) row[0], (Long) row[1]);
+            }
+
+            for (Integer userId : batch) {
+                // 조회 중에 증감이 있었던 사용자는 건너뜀 (다음 주기에 다시 확인)
+                if (generationOf(userId).get() != before.get(userId)) {
+                    continue;
+                }
+                long value = actual.getOrDefault(userId, 0L);
+                AtomicLong count = counts.get(userId);
+                if (count != null && count.getAndSet(value) != value) {
+                    corrected++;
+                }
+            }
+        }
+        if (corrected > 0) {
+            log.info("읽지 않은 쪽지 수 보정: 사용자 {}명 중 {}명", userIds.size(), corrected);
+        }
+    }
+
+    private AtomicLong generationOf(Integer userId) {
+        return generations.computeIfAbsent(userId, id -> new AtomicLong());
+    }
+}
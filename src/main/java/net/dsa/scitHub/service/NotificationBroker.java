@@ -0,0 +1,28 @@
+package net.dsa.scitHub.service;
+
+import java.util.function.Consumer;
+
+import net.dsa.scitHub.dto.NotificationEvent;
+
+/**
+ * 알림 이벤트 전달 (여러 애플리케이션 노드 간)
+ * - NotificationService / AnnouncementFanoutService는 알림 저장이 커밋된 뒤 publish
+ * - 각 노드는 subscribe로 이벤트를 받아 자기 노드의 SSE 연결과 메모리 알림 요약에 반영
+ * - 구현은 notification.broker 설정으로 선택
+ *   in-process(기본): 같은 노드 안에서 바로 전달 (단일 노드)
+ *   db-polling: notification 테이블을 로그로 사용해 모든 노드가 주기적으로 새 행/갱신된 행을 읽음
+ */
+public interface NotificationBroker {
+
+    /**
+     * 이벤트 발행 (커밋 후 호출)
+     * @param event 알림 이벤트
+     */
+    void publish(NotificationEvent event);
+
+    /**
+     * 이벤트 구독 (이 노드에서 받은 이벤트를 전달받을 함수 등록)
+     * @param listener 이벤트 처리 함수
+     */
+    void subscribe(Consumer<NotificationEvent> listener);
+}
@@ -0,0 +1,246 @@
+package net.dsa.scitHub.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.NotificationDTO;
+
+/**
+ * 사용자별 알림 요약 (읽지 않은 알림 수 + 최근 알림) 메모리 보관
+ * - 공통 헤더가 매 페이지마다 COUNT / 최근 목록 쿼리를 실행하지 않도록 처음 조회할 때만 DB에서 읽음
+ * - 개인 알림 / 전체 알림 발송, 읽음 처리는 커밋 후 호출되어 메모리 값을 갱신
+ * - 일정 시간 조회가 없는 사용자의 항목은 제거 (다음 조회 시 다시 읽음)
+ */
+@Component
+@Slf4j
+public class NotificationInbox {
+
+    /** 보관할 최근 알림 수 (공통 헤더 알림 패널 크기) */
+    public static final int RECENT_SIZE = 10;
+
+    @Value("${notification.inbox.idleMinutes:30}")
+    private long idleMinutes;       // 조회가 없으면 제거할 시간
+
+    /**
+     * 알림 요약
+     * @param unreadCount 읽지 않은 알림 수
+     * @param recent      최근 알림 (최신순)
+     */
+    public record Snapshot(long unreadCount, List<NotificationDTO> recent) {
+    }
+
+    /** 사용자별 요약 (모든 메서드는 항목 단위로 synchronized) */
+    private static class Entry {
+        long unreadCount;
+        final Deque<NotificationDTO> recent;
+        volatile long lastAccess = System.currentTimeMillis();
+
+        Entry(long unreadCount, List<NotificationDTO> recent) {
+            this.unreadCount = unreadCount;
+            this.recent = new ArrayDeque<>(recent);
+        }
+
+        synchronized Snapshot snapshot() {
+            lastAccess = System.currentTimeMillis();
+            return new Snapshot(unreadCount, new ArrayList<>(recent));
+        }
+
+        synchronized void added(NotificationDTO notificationDTO) {
+            for (NotificationDTO existing : recent) {
+                if (notificationDTO.getNotificationId().equals(existing.getNotificationId())) {
+                    return;     // 재전달된 이벤트 (아웃박스 재시도)
+                }
+            }
+            unreadCount++;
+            recent.addFirst(notificationDTO);
+            while (recent.size() > RECENT_SIZE) {
+                recent.removeLast();
+            }
+        }
+
+        synchronized void replaced(NotificationDTO notificationDTO) {
+            // 기존 알림을 갱신한 것이므로 읽지 않은 수는 그대로, 목록에서는 맨 위로 이동
+            recent.removeIf(existing -> notificationDTO.getNotificationId().equals(existing.getNotificationId()));
+            recent.addFirst(notificationDTO);
+            while (recent.size() > RECENT_SIZE) {
+                recent.removeLast();
+            }
+        }
+
+        synchronized void read(Integer notificationId) {
+            unreadCount = Math.max(0, unreadCount - 1);
+            for (NotificationDTO notificationDTO : recent) {
+                if (notificationDTO.getNotificationId() != null && notificationDTO.getNotificationId().equals(notificationId)) {
+                    notificationDTO.setIsRead(true);
+                }
+            }
+        }
+
+        synchronized void readUpTo(Integer maxId, long count) {
+            unreadCount = Math.max(0, unreadCount - count);
+            for (NotificationDTO notificationDTO : recent) {
+                if (notificationDTO.getNotificationId() != null && notificationDTO.getNotificationId() <= maxId) {
+                    notificationDTO.setIsRead(true);
+                }
+            }
+        }
+    }
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    /** 사용자별 변경 번호: DB에서 읽는 동안 변경이 있었으면 읽은 값을 보관하지 않음 */
+    private final Map<Integer, AtomicLong> generations = new ConcurrentHashMap<>();
+    /** 전체 알림 변경 번호 (모든 사용자에 해당) */
+    private final AtomicLong broadcastGeneration = new AtomicLong();
+
+    /**
+     * 읽지 않은 알림 수와 최근 알림 조회 (없으면 loader로 읽어서 보관)
+     * @param userId 사용자 ID
+     * @param loader DB 조회 (최근 알림은 RECENT_SIZE건, 최신순)
+     * @return 알림 요약
+     */
+    public Snapshot get(Integer userId, Function<Integer, Snapshot> loader) {
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            return entry.snapshot();
+        }
+
+        long generation = generationOf(userId).get();
+        long broadcast = broadcastGeneration.get();
+        Snapshot loaded = loader.apply(userId);
+
+        // 읽는 동안 변경이 있었으면 이번 결과만 사용하고 보관하지 않음 (다음 조회 시 다시 읽음)
+        if (generationOf(userId).get() == generation && broadcastGeneration.get() == broadcast) {
+            entries.put(userId, new Entry(loaded.unreadCount(), loaded.recent()));
+        }
+        return loaded;
+    }
+
+    /**
+     * 새 알림 반영 (커밋 후 호출)
+     * @param userId          수신자 ID
+     * @param notificationDTO 저장된 알림
+     */
+    public void added(Integer userId, NotificationDTO notificationDTO) {
+        generationOf(userId).incrementAndGet();
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return;
+        }
+        if (notificationDTO.getNotificationId() == null) {
+            // ID 없는 알림은 읽음 처리와 연결할 수 없으므로 다음 조회 때 DB에서 다시 읽음
+            entries.remove(userId);
+            return;
+        }
+        entry.added(notificationDTO);
+    }
+
+    /**
+     * 기존 알림에 합쳐진 알림 반영 (커밋 후 호출, 읽지 않은 수는 변하지 않음)
+     * @param userId          수신자 ID
+     * @param notificationDTO 갱신된 알림
+     */
+    public void coalesced(Integer userId, NotificationDTO notificationDTO) {
+        generationOf(userId).incrementAndGet();
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.replaced(notificationDTO);
+        }
+    }
+
+    /**
+     * 새 전체 알림 반영 (커밋 후 호출, 작성자를 제외한 보관 중인 모든 사용자)
+     * @param notificationDTO 저장된 전체 알림
+     * @param senderId        작성자 ID
+     */
+    public void broadcastAdded(NotificationDTO notificationDTO, Integer senderId) {
+        broadcastGeneration.incrementAndGet();
+        entries.forEach((userId, entry) -> {
+            if (!userId.equals(senderId)) {
+                // 읽음 여부는 사용자마다 달라지므로 사용자별로 복사해서 보관
+                entry.added(NotificationDTO.builder()
+                    .notificationId(notificationDTO.getNotificationId())
+                    .title(notificationDTO.getTitle())
+                    .content(notificationDTO.getContent())
+                    .targetUrl(notificationDTO.getTargetUrl())
+                    .isRead(false)
+                    .createdAt(notificationDTO.getCreatedAt())
+                    .aggregateCount(notificationDTO.getAggregateCount())
+                    .build());
+            }
+        });
+    }
+
+    /**
+     * 알림 하나 읽음 반영 (커밋 후 호출, 실제로 읽지 않음 → 읽음으로 바뀐 경우만)
+     * @param userId         사용자 ID
+     * @param notificationId 알림 ID
+     */
+    public void read(Integer userId, Integer notificationId) {
+        generationOf(userId).incrementAndGet();
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.read(notificationId);
+        }
+    }
+
+    /**
+     * 특정 ID 이하 알림 일괄 읽음 반영 (커밋 후 호출)
+     * @param userId 사용자 ID
+     * @param maxId  읽음 처리한 알림 중 가장 큰 ID
+     * @param count  읽음으로 바뀐 알림 수
+     */
+    public void readUpTo(Integer userId, Integer maxId, long count) {
+        generationOf(userId).incrementAndGet();
+        Entry entry = entries.get(userId);
+        if (entry != null) {
+            entry.readUpTo(maxId, count);
+        }
+    }
+
+    /**
+     * 사용자 항목 제거 (다음 조회 시 DB에서 다시 읽음)
+     * @param userId 사용자 ID
+     */
+    public void evict(Integer userId) {
+        generationOf(userId).incrementAndGet();
+        entries.remove(userId);
+    }
+
+    /**
+     * 모든 항목 제거 (오래된 알림 일괄 정리처럼 사용자를 특정할 수 없는 변경 후 호출)
+     */
+    public void evictAll() {
+        // 읽는 중인 값도 보관되지 않도록 전체 변경 번호를 올림
+        broadcastGeneration.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 일정 시간 조회가 없는 항목 제거 (1분 주기)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleMinutes * 60_000;
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.lastAccess < threshold);
+        int evicted = before - entries.size();
+        if (evicted > 0) {
+            log.debug("유휴 알림 요약 제거: {}건", evicted);
+        }
+    }
+
+    private AtomicLong generationOf(Integer userId) {
+        return generations.computeIfAbsent(userId, id -> new AtomicLong());
+    }
+}
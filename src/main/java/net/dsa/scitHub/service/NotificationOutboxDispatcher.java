@@ -0,0 +1,204 @@
+package net.dsa.scitHub.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.NotificationEvent;
+import net.dsa.scitHub.dto.NotificationLogRow;
+import net.dsa.scitHub.entity.user.NotificationOutbox;
+import net.dsa.scitHub.repository.user.NotificationOutboxRepository;
+import net.dsa.scitHub.repository.user.NotificationRepository;
+import net.dsa.scitHub.utils.TransactionUtils;
+
+/**
+ * 알림 아웃박스 전달
+ * - 알림을 저장하는 트랜잭션 안에서 아웃박스 행을 함께 기록 (롤백되면 이벤트도 남지 않음)
+ * - 커밋 직후 전달 스레드를 깨우고, 서버가 그 사이에 멈춘 경우를 위해 주기적으로도 확인
+ * - 기록 순서대로 BATCH_SIZE건씩 NotificationBroker로 발행한 뒤 삭제
+ * - 실패한 이벤트는 점점 늦춰 재시도하며, 그동안 같은 수신자의 뒤 이벤트도 보내지 않음 (수신자별 순서 유지)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    /** 트랜잭션 하나에서 전달할 최대 이벤트 수 */
+    private static final int BATCH_SIZE = 100;
+    /** 재시도 최대 대기 시간 */
+    private static final long MAX_BACKOFF_SECONDS = 300;
+    /** 전체 알림의 순서 키 */
+    private static final int BROADCAST_ORDERING_KEY = 0;
+
+    private final NotificationOutboxRepository nor;
+    private final NotificationRepository nr;
+    private final NotificationBroker broker;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.outbox.maxAttempts:10}")
+    private int maxAttempts;        // 전달을 포기하기 전까지의 최대 시도 횟수
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    /**
+     * 알림 이벤트를 아웃박스에 기록 (알림을 저장한 트랜잭션 안에서 호출, 전달은 커밋 후)
+     * @param kind           이벤트 종류
+     * @param notificationId 알림 ID
+     * @param recipientId    수신자 ID (전체 알림이면 null)
+     */
+    public void append(NotificationEvent.Kind kind, Integer notificationId, Integer recipientId) {
+        nor.save(NotificationOutbox.builder()
+            .kind(kind)
+            .notificationId(notificationId)
+            .orderingKey(recipientId != null ? recipientId : BROADCAST_ORDERING_KEY)
+            .build());
+        TransactionUtils.afterCommit(this::wakeUp);
+    }
+
+    /**
+     * 전달 스레드 깨우기 (이미 예약되어 있으면 무시)
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    wakeUpPending.set(false);
+                    dispatch();
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                wakeUpPending.set(false);
+            }
+        }
+    }
+
+    /**
+     * 커밋 직후 전달하지 못한 이벤트 / 재시도 시각이 된 이벤트 확인 (기본 5초 주기)
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.pollMillis:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 전달할 이벤트가 없거나 더 진행할 수 없을 때까지 반복 */
+    private void dispatch() {
+        try {
+            Integer handled;
+            do {
+                handled = transactionTemplate.execute(tx -> dispatchBatch());
+            } while (handled != null && handled == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.error("알림 아웃박스 전달 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이벤트 한 묶음 전달 (트랜잭션 하나)
+     * @return 조회한 이벤트 수
+     */
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> due = nor.findDue(now, PageRequest.of(0, BATCH_SIZE));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 알림 내용은 전달 시점에 한 번에 읽음 (합쳐진 알림은 최신 내용으로 전달)
+        List<Integer> notificationIds = new ArrayList<>();
+        for (NotificationOutbox outbox : due) {
+            notificationIds.add(outbox.getNotificationId());
+        }
+        Map<Integer, NotificationLogRow> rows = new HashMap<>();
+        for (NotificationLogRow row : nr.findLogByIds(notificationIds)) {
+            rows.put(row.notificationId(), row);
+        }
+
+        List<NotificationOutbox> done = new ArrayList<>();
+        Set<Integer> blocked = new HashSet<>();
+        int failed = 0;
+        for (NotificationOutbox outbox : due) {
+            if (blocked.contains(outbox.getOrderingKey())) {
+                // 같은 수신자의 앞선 이벤트가 실패 → 다음 조회부터는 쿼리에서 제외됨
+                continue;
+            }
+            NotificationLogRow row = rows.get(outbox.getNotificationId());
+            if (row == null) {
+                // 그 사이 알림이 삭제됨 (정리 작업, 연관 데이터 삭제 등)
+                done.add(outbox);
+                continue;
+            }
+            try {
+                broker.publish(row.toEvent(outbox.getKind() == NotificationEvent.Kind.UPDATED));
+                done.add(outbox);
+            } catch (RuntimeException e) {
+                blocked.add(outbox.getOrderingKey());
+                retryLater(outbox, e, now);
+                failed++;
+            }
+        }
+
+        nor.deleteAllInBatch(done);
+        meterRegistry.counter("notification.outbox.dispatched").increment(done.size());
+        if (failed > 0) {
+            meterRegistry.counter("notification.outbox.failed").increment(failed);
+        }
+        return due.size();
+    }
+
+    /** 실패한 이벤트의 다음 시도 시각 지정 */
+    private void retryLater(NotificationOutbox outbox, RuntimeException e, LocalDateTime now) {
+        int attempts = outbox.getAttempts() + 1;
+        outbox.setAttempts(attempts);
+        String message = String.valueOf(e.getMessage());
+        outbox.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+
+        if (attempts >= maxAttempts) {
+            outbox.setFailedAt(now);
+            log.error("알림 아웃박스 전달 포기 [outboxId={}, notificationId={}, attempts={}]: {}",
+                outbox.getOutboxId(), outbox.getNotificationId(), attempts, message);
+            return;
+        }
+        long backoff = backoffSeconds(attempts);
+        outbox.setNextAttemptAt(now.plusSeconds(backoff));
+        log.warn("알림 아웃박스 전달 실패, {}초 후 재시도 [outboxId={}, notificationId={}, attempts={}]: {}",
+            backoff, outbox.getOutboxId(), outbox.getNotificationId(), attempts, message);
+    }
+
+    /**
+     * 재시도 대기 시간 (1, 2, 4 ... 초, 최대 MAX_BACKOFF_SECONDS)
+     * @param attempts 지금까지의 시도 횟수 (1부터)
+     * @return 다음 시도까지 대기할 초
+     */
+    static long backoffSeconds(int attempts) {
+        return Math.min(1L << Math.min(attempts - 1, 20), MAX_BACKOFF_SECONDS);
+    }
+}
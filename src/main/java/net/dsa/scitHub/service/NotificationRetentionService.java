@@ -0,0 +1,243 @@
+package net.dsa.scitHub.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.RetentionReportDTO;
+
+/**
+ * 알림 보관 기간 정리 (매일 새벽, ScheduledTasksService의 예약 정리 이후)
+ * - 정책별로 기간이 지난 알림을 보관 테이블(notification_archive)로 옮기거나 삭제
+ * - 알림 ID는 생성 순서와 같으므로 기준 시각 이전의 ID 범위만 PK 순서로 훑고,
+ *   chunkSize건씩 별도 트랜잭션으로 처리해 자주 쓰이는 notification 테이블을 오래 잠그지 않음
+ * - 정책별 처리 건수와 걸린 시간은 로그, notification.retention.* 지표, 운영실 조회로 확인
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    /** notification → notification_archive 로 옮기는 컬럼 */
+    private static final String COLUMNS =
+        "notification_id, user_id, sender_id, title, content, target_url, is_read, created_at, " +
+        "notification_type, aggregate_count, post_id, comment_id, message_id, student_group_id, event_id, reservation_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationInbox inbox;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.retention.readDays:30}")
+    private int readDays;           // 읽은 개인 알림 보관 일수 (0이면 정리하지 않음)
+
+    @Value("${notification.retention.unreadDays:180}")
+    private int unreadDays;         // 읽지 않은 개인 알림 보관 일수
+
+    @Value("${notification.retention.broadcastDays:90}")
+    private int broadcastDays;      // 전체 알림 보관 일수
+
+    @Value("${notification.retention.archive:true}")
+    private boolean archive;        // true면 보관 테이블로 이동, false면 바로 삭제
+
+    @Value("${notification.retention.archiveDays:365}")
+    private int archiveDays;        // 보관 테이블에 남겨 둘 일수
+
+    @Value("${notification.retention.chunkSize:500}")
+    private int chunkSize;          // 트랜잭션 하나에서 처리할 행 수
+
+    @Value("${notification.retention.pauseMillis:100}")
+    private long pauseMillis;       // 트랜잭션 사이 대기 시간 (다른 요청에 잠금 양보)
+
+    /**
+     * 정리 정책
+     * @param name      정책 이름
+     * @param condition 대상 조건 (notification 테이블 기준 SQL)
+     * @param days      보관 일수
+     */
+    private record Policy(String name, String condition, int days) {
+    }
+
+    private volatile List<RetentionReportDTO> lastReport = List.of();
+
+    /**
+     * 매일 새벽 4시 30분에 정리 실행
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}")
+    public void runScheduled() {
+        run();
+    }
+
+    /**
+     * 모든 정책 실행 (동시에 하나만 실행)
+     * @return 정책별 처리 결과
+     */
+    public synchronized List<RetentionReportDTO> run() {
+        log.info("알림 보관 기간 정리 작업을 시작합니다.");
+        List<RetentionReportDTO> report = new ArrayList<>();
+        List<Policy> policies = List.of(
+            new Policy("read", "user_id IS NOT NULL AND is_read = 1", readDays),
+            new Policy("unread", "user_id IS NOT NULL AND is_read = 0", unreadDays),
+            new Policy("broadcast", "user_id IS NULL", broadcastDays));
+
+        int removed = 0;
+        for (Policy policy : policies) {
+            if (policy.days() <= 0) {
+                continue;
+            }
+            RetentionReportDTO result = purge(policy);
+            removed += result.getRows();
+            report.add(result);
+        }
+        if (archive && archiveDays > 0) {
+            report.add(purgeArchive());
+        }
+
+        if (removed > 0) {
+            // 읽지 않은 수 / 최근 알림에 지워진 행이 포함되었을 수 있으므로 메모리 요약을 다시 읽게 함
+            inbox.evictAll();
+        }
+        lastReport = List.copyOf(report);
+        log.info("알림 보관 기간 정리 작업을 완료했습니다. {}", report);
+        return lastReport;
+    }
+
+    /**
+     * 마지막 정리 결과
+     * @return 정책별 처리 결과 (실행 전이면 빈 목록)
+     */
+    public List<RetentionReportDTO> getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 정책 하나 실행: 기준 시각 이전 ID 범위를 PK 순서로 훑으며 chunkSize건씩 이동/삭제
+     */
+    private RetentionReportDTO purge(Policy policy) {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(policy.days());
+        LocalDateTime archivedAt = LocalDateTime.now();
+
+        // 기준 시각 이후 첫 알림 ID: 이 ID보다 작은 범위만 살펴보면 됨 (created_at 인덱스 없이 앞쪽 행만 읽음)
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("cutoff", cutoff)
+            .addValue("limit", chunkSize);
+        List<Integer> boundary = jdbcTemplate.queryForList(
+            "SELECT notification_id FROM notification WHERE created_at >= :cutoff ORDER BY notification_id LIMIT 1",
+            params, Integer.class);
+        Integer boundaryId = boundary.isEmpty()
+            ? jdbcTemplate.queryForObject("SELECT COALESCE(MAX(notification_id), 0) + 1 FROM notification", params, Integer.class)
+            : boundary.get(0);
+        params.addValue("boundaryId", boundaryId);
+
+        int rows = 0;
+        int chunks = 0;
+        int afterId = 0;
+        while (true) {
+            // 잠금 없는 일반 SELECT로 대상 ID만 찾고, 이동/삭제는 PK로 지정한 행만 잠금
+            params.addValue("afterId", afterId);
+            List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT notification_id FROM notification " +
+                "WHERE notification_id > :afterId AND notification_id < :boundaryId " +
+                "AND created_at < :cutoff AND " + policy.condition() + " " +
+                "ORDER BY notification_id LIMIT :limit",
+                params, Integer.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer moved = transactionTemplate.execute(tx -> moveChunk(ids, archivedAt));
+            rows += moved != null ? moved : 0;
+            chunks++;
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            pause();
+        }
+
+        return report(policy.name(), archive ? "ARCHIVE" : "DELETE", cutoff, rows, chunks, start);
+    }
+
+    /**
+     * ID 목록에 해당하는 알림을 보관 테이블로 복사한 뒤 삭제 (트랜잭션 하나)
+     * @return 삭제된 행 수
+     */
+    private int moveChunk(List<Integer> ids, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", archivedAt);
+        if (archive) {
+            jdbcTemplate.update(
+                "INSERT IGNORE INTO notification_archive (" + COLUMNS + ", archived_at) " +
+                "SELECT " + COLUMNS + ", :archivedAt FROM notification WHERE notification_id IN (:ids)",
+                params);
+        }
+        return jdbcTemplate.update("DELETE FROM notification WHERE notification_id IN (:ids)", params);
+    }
+
+    /**
+     * 보관 기간이 지난 보관 테이블 행 삭제 (chunkSize건씩)
+     */
+    private RetentionReportDTO purgeArchive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveDays);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("cutoff", cutoff)
+            .addValue("limit", chunkSize);
+
+        int rows = 0;
+        int chunks = 0;
+        while (true) {
+            int deleted = jdbcTemplate.update(
+                "DELETE FROM notification_archive WHERE archived_at < :cutoff ORDER BY archived_at LIMIT :limit", params);
+            rows += deleted;
+            chunks++;
+            if (deleted < chunkSize) {
+                break;
+            }
+            pause();
+        }
+
+        return report("archive", "DELETE", cutoff, rows, chunks, start);
+    }
+
+    private RetentionReportDTO report(String policy, String action, LocalDateTime cutoff, int rows, int chunks, long start) {
+        long elapsed = System.currentTimeMillis() - start;
+        meterRegistry.counter("notification.retention.rows", "policy", policy).increment(rows);
+        meterRegistry.timer("notification.retention.time", "policy", policy).record(elapsed, TimeUnit.MILLISECONDS);
+        log.info("알림 정리 [policy={}, action={}, cutoff={}]: {}건, {}회, {}ms", policy, action, cutoff, rows, chunks, elapsed);
+
+        return RetentionReportDTO.builder()
+            .policy(policy)
+            .action(action)
+            .cutoff(cutoff)
+            .rows(rows)
+            .chunks(chunks)
+            .elapsedMillis(elapsed)
+            .finishedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
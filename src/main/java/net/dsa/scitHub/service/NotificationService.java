@@ -1,17 +1,28 @@
 package net.dsa.scitHub.service;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dsa.scitHub.dto.NotificationDTO;
+import net.dsa.scitHub.dto.NotificationEvent;
 import net.dsa.scitHub.entity.board.Comment;
 import net.dsa.scitHub.entity.board.Post;
 import net.dsa.scitHub.entity.schedule.Event;
@@ -19,9 +30,10 @@ import net.dsa.scitHub.entity.user.Message;
 import net.dsa.scitHub.entity.user.Notification;
 import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.enums.NotificationType;
-import net.dsa.scitHub.repository.board.BoardRepository;
 import net.dsa.scitHub.repository.board.SseEmitterRepository;
+import net.dsa.scitHub.repository.user.NotificationReadMarkerRepository;
 import net.dsa.scitHub.repository.user.NotificationRepository;
+import net.dsa.scitHub.utils.TransactionUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +41,23 @@ import net.dsa.scitHub.repository.user.NotificationRepository;
 public class NotificationService {
 
     private final NotificationRepository nr;
+    private final NotificationReadMarkerRepository mrr;
     private final SseEmitterRepository ser;
-    private final BoardRepository br;
+    private final SseSender sender;
+    private final BoardRegistry brg;
+    private final NotificationInbox inbox;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationBroker broker;
+    private final NotificationOutboxDispatcher outbox;
+
+    /** 나눠서 읽음 처리할 때 한 번에 처리할 알림 수 */
+    private static final int MARK_READ_BATCH_SIZE = 1000;
+    /** 같은 게시글에 대해 하나로 합치는 알림 종류 */
+    private static final Set<NotificationType> COALESCED_TYPES =
+        EnumSet.of(NotificationType.NEW_LIKE_ON_POST, NotificationType.NEW_COMMENT_ON_POST);
+
+    @Value("${notification.coalesceMinutes:10}")
+    private long coalesceMinutes;   // 좋아요/댓글 알림을 합치는 시간 (0이면 합치지 않음)
 
     /**
      * 알림을 생성, 저장하고 실시간으로 발송하는 통합 메서드
@@ -40,8 +67,33 @@ public class NotificationService {
      */
     @Transactional
     public void send(User recipient, NotificationType type, Object relatedEntity) {
+        User actor = relatedEntity instanceof Comment comment ? comment.getUser() : null;
+        send(recipient, type, relatedEntity, actor);
+    }
+
+    /**
+     * 알림을 생성, 저장하고 실시간으로 발송 (알림을 발생시킨 사용자 지정)
+     * - 좋아요/댓글 알림은 같은 게시글에 대한 읽지 않은 알림이 일정 시간 안에 있으면 새로 만들지 않고 합침
+     * @param recipient 알림을 받을 사용자
+     * @param type 알림 종류
+     * @param relatedEntity 알림의 원인이 된 객체 (Post, Comment, Message, Event)
+     * @param actor 알림을 발생시킨 사용자 (모르면 null)
+     */
+    @Transactional
+    public void send(User recipient, NotificationType type, Object relatedEntity, User actor) {
+        Integer actorId = actor != null ? actor.getUserId() : null;
+        if (actorId != null && actorId.equals(recipient.getUserId())) {
+            log.debug("본인의 행동에 대한 알림은 생성하지 않습니다.");
+            return;
+        }
+
+        // 0. 같은 게시글에 대한 좋아요/댓글 알림이 있으면 기존 알림에 합침
+        if (COALESCED_TYPES.contains(type) && coalesceMinutes > 0 && coalesce(recipient, type, relatedEntity, actorId)) {
+            return;
+        }
+
         // 1. 알림 엔티티 생성
-        Notification notification = createNotification(recipient, type, relatedEntity);
+        Notification notification = createNotification(recipient, type, relatedEntity, actorId);
         if (notification == null) {
             log.debug("본인의 행동에 대한 알림은 생성하지 않습니다.");
             return;
@@ -50,25 +102,187 @@ public class NotificationService {
         // 2. DTO로 변환
         NotificationDTO notificationDTO = NotificationDTO.convertToDTO(notification);
 
-        // 3. 실시간 알림 발송
-        // SseEmitterRepository에서 해당 사용자의 Emitter를 찾음
-        SseEmitter emitter = ser.findById(recipient.getUserId());
+        // 3. 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 발행 → 수신자가 접속한 노드에서 실시간 발송 및 메모리 알림 요약 갱신)
+        outbox.append(NotificationEvent.Kind.CREATED, notificationDTO.getNotificationId(), recipient.getUserId());
+    }
 
-        if (emitter == null) {
-            log.debug("SSE Emitter가 존재하지 않습니다. 실시간 알림을 보낼 수 없습니다. [userId={}]", recipient.getUserId());
-            return;
+    /**
+     * 브로커 구독 (이 노드에 도착한 개인 알림 이벤트 처리, 전체 알림은 AnnouncementFanoutService가 처리)
+     */
+    @PostConstruct
+    void subscribeBroker() {
+        broker.subscribe(this::deliver);
+    }
+
+    /**
+     * 이 노드의 SSE 연결과 메모리 알림 요약에 알림 이벤트 반영
+     * @param event 알림 이벤트
+     */
+    private void deliver(NotificationEvent event) {
+        Integer recipientId = event.recipientId();
+        NotificationDTO notificationDTO = event.notification();
+        switch (event.kind()) {
+            case CREATED -> {
+                if (Boolean.TRUE.equals(notificationDTO.getIsRead())) {
+                    // 전달되기 전에 이미 읽은 알림 (DB 브로커 지연) → 요약만 다시 읽게 함
+                    inbox.evict(recipientId);
+                    return;
+                }
+                push(recipientId, notificationDTO);
+                inbox.added(recipientId, notificationDTO);
+            }
+            case UPDATED -> {
+                push(recipientId, notificationDTO);
+                inbox.coalesced(recipientId, notificationDTO);
+            }
+            case BROADCAST -> {
+                // AnnouncementFanoutService에서 처리
+            }
+        }
+    }
+
+    /**
+     * 열려 있는 합침 대상 알림(같은 수신자/종류/게시글, 읽지 않음, 일정 시간 이내)에 새 알림을 합침
+     * - 대상은 잠그지 않고 찾은 뒤, 기본 키로 그 행만 잠그고 아직 합칠 수 있는지 다시 확인
+     *   (빈 범위를 잠그지 않으므로 동시에 첫 좋아요/댓글이 들어와도 교착 상태가 되지 않음)
+     * - 잠근 행을 갱신하므로 동시에 들어온 좋아요도 순서대로 합쳐짐
+     * - 직전에 합쳐진 사용자와 같은 사용자면 (좋아요 취소 후 재등록, 연속 댓글 등) 다시 세지 않고 내용만 갱신해 발송
+     * @return 기존 알림에 합쳤으면 true (새 알림을 만들어야 하면 false)
+     */
+    private boolean coalesce(User recipient, NotificationType type, Object relatedEntity, Integer actorId) {
+        Post post = relatedEntity instanceof Comment comment ? comment.getPost() : (Post) relatedEntity;
+        LocalDateTime since = LocalDateTime.now().minusMinutes(coalesceMinutes);
+        List<Integer> open = nr.findOpenAggregateIds(recipient.getUserId(), type, post.getPostId(), since, PageRequest.of(0, 1));
+        if (open.isEmpty()) {
+            return false;
         }
 
-        // 4. Emitter를 통해 클라이언트로 알림 전송
+        // 찾은 뒤 잠그기 전에 읽음 처리 / 삭제되었으면 새 알림을 만듦
+        // 잠금 대기 시간 초과는 문장만 실패하므로 새 알림으로 대신해 좋아요/댓글 자체는 실패시키지 않음
+        Notification aggregate;
         try {
-            emitter.send(SseEmitter.event()
-                .name("newNotification")
-                .data(notificationDTO));
-        } catch (IOException e) {
-            // 전송 실패 시 Emitter 제거
-            log.error("SSE 전송 중 오류 발생 [userId={}]: {}", recipient.getUserId(), e.getMessage());
-            ser.deleteById(recipient.getUserId());
+            aggregate = nr.findByIdForUpdate(open.get(0)).orElse(null);
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("합칠 알림 잠금 실패, 새 알림 생성 [notificationId={}]: {}", open.get(0), e.getMessage());
+            return false;
+        }
+        if (aggregate == null || Boolean.TRUE.equals(aggregate.getIsRead()) || aggregate.getCreatedAt().isBefore(since)) {
+            return false;
+        }
+
+        // 변경 감지로 UPDATE (새 행을 만들지 않음)
+        // 직전에 합쳐진 사용자와 같은 사용자면 (좋아요 취소 후 재등록, 연속 댓글 등) 수는 세지 않고 내용만 갱신
+        if (actorId == null || !actorId.equals(aggregate.getLastActorId())) {
+            int count = aggregate.getAggregateCount() + 1;
+            aggregate.setAggregateCount(count);
+            aggregate.setTitle(createAggregateTitle(type, count));
+        }
+        aggregate.setLastActorId(actorId);
+        aggregate.setUpdatedAt(LocalDateTime.now());
+        aggregate.setContent(createNotificationContent(type, relatedEntity));
+        if (relatedEntity instanceof Comment comment) {
+            aggregate.setComment(comment);
+        }
+
+        outbox.append(NotificationEvent.Kind.UPDATED, aggregate.getNotificationId(), recipient.getUserId());
+        return true;
+    }
+
+    /**
+     * 합쳐진 알림 제목
+     * @param type 알림 종류
+     * @param count 합쳐진 알림 수
+     * @return 알림 제목
+     */
+    private String createAggregateTitle(NotificationType type, int count) {
+        return switch (type) {
+            case NEW_LIKE_ON_POST -> count + "人があなたの投稿に「いいね！」しました。";
+            case NEW_COMMENT_ON_POST -> "あなたの投稿に" + count + "件の新しいコメントがありました。";
+            default -> type.getTitle();
+        };
+    }
+
+    /**
+     * 저장된 알림을 SSE로 실시간 발송 (사용자의 모든 연결의 전송 대기열에 추가)
+     * - 실제 네트워크 전송은 SseSender의 전송 스레드에서 진행하므로 호출 스레드는 기다리지 않음
+     * @param userId 수신자 ID
+     * @param notificationDTO 발송할 알림
+     * @return 모든 연결에서 대기열 추가 실패 시 false (연결이 없는 경우는 true)
+     */
+    public boolean push(Integer userId, NotificationDTO notificationDTO) {
+        // SseEmitterRepository에서 해당 사용자의 연결을 모두 찾음
+        List<SseEmitterRepository.Connection> connections = ser.findAllByUserId(userId);
+
+        if (connections.isEmpty()) {
+            log.debug("SSE Emitter가 존재하지 않습니다. 실시간 알림을 보낼 수 없습니다. [userId={}]", userId);
+            return true;
+        }
+
+        // 이벤트 객체는 전송 시 내용이 바뀌므로 연결마다 새로 생성
+        int queued = 0;
+        for (SseEmitterRepository.Connection connection : connections) {
+            if (sender.sendNotification(connection, notificationDTO.getNotificationId(), toEvent(notificationDTO))) {
+                queued++;
+            }
+        }
+        return queued > 0;
+    }
+
+    /**
+     * 알림 SSE 이벤트 생성
+     * - 이벤트 ID는 SseSender.sendNotification이 연결별로 지정 (브라우저가 재연결할 때 Last-Event-ID 헤더로 돌려줌)
+     * @param notificationDTO 발송할 알림
+     * @return SSE 이벤트 (ID 미지정)
+     */
+    public SseEmitter.SseEventBuilder toEvent(NotificationDTO notificationDTO) {
+        return SseEmitter.event().name("newNotification").data(notificationDTO);
+    }
+
+    /**
+     * 마지막으로 받은 알림 이후에 생성된 알림 조회 (개인 + 전체 알림, 오래된 순, 최대 limit건)
+     * - 놓친 알림이 limit건보다 많으면 최신 limit건만 반환 (나머지는 화면 새로고침 시 표시)
+     * @param userId 사용자 ID
+     * @param lastId 클라이언트가 마지막으로 받은 알림 ID
+     * @param limit 최대 조회 건수
+     * @return 놓친 알림 목록
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationDTO> getNotificationsAfter(Integer userId, Integer lastId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<NotificationDTO> result = merge(
+            nr.findNewerThan(userId, lastId, page),
+            nr.findBroadcastsNewerThan(userId, lastId, page),
+            mrr.findLastBroadcastId(userId).orElse(0),
+            limit);
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 전체 알림 저장 (한 번만 저장, 수신자별 행을 만들지 않음)
+     * - 실시간 발송과 메모리 요약 반영은 호출 측(AnnouncementFanoutService)이 커밋 후 진행
+     * @param type 알림 종류 (NEW_ANNOUNCEMENT, NEW_EVENT)
+     * @param relatedEntity 알림의 원인이 된 객체 (Post, Event)
+     * @param sender 작성자 (본인에게는 표시하지 않음)
+     * @return 저장된 알림 DTO
+     */
+    @Transactional
+    public NotificationDTO createBroadcast(NotificationType type, Object relatedEntity, User sender) {
+        Notification.NotificationBuilder builder = Notification.builder()
+            .sender(sender)
+            .title(type.getTitle())
+            .content(createNotificationContent(type, relatedEntity))
+            .targetUrl(createNotificationUrl(type, relatedEntity))
+            .notificationType(type);
+        if (relatedEntity instanceof Post post) {
+            builder.post(post);
+        } else if (relatedEntity instanceof Event event) {
+            builder.event(event);
         }
+
+        Notification notification = nr.save(builder.build());
+        log.debug("전체 알림 저장 [notificationId={}, type={}]", notification.getNotificationId(), type);
+        return NotificationDTO.convertToDTO(notification);
     }
 
     /**
@@ -76,9 +290,10 @@ public class NotificationService {
      * @param recipient 알림을 받을 사용자
      * @param type 알림 종류
      * @param entity 알림의 원인이 된 객체 (Post, Comment, Message, Event)
+     * @param actorId 알림을 발생시킨 사용자 ID (합치기 판단용, 모르면 null)
      * @return 생성된 Notification 객체
      */
-    private Notification createNotification(User recipient, NotificationType type, Object entity) {
+    private Notification createNotification(User recipient, NotificationType type, Object entity, Integer actorId) {
         // 본인이 한 활동에 대해서는 알림을 생성하지 않음 (예, 내 글에 내가 댓글)
         // 이 부분을 확인하기 위해 관련 엔티티들의 정보 필요
         if (entity instanceof Post post) {  // Post에 대한 알림 (게시글 좋아요)
@@ -102,6 +317,7 @@ public class NotificationService {
                 .targetUrl(url)
                 .notificationType(type)
                 .post(post)
+                .lastActorId(actorId)
                 .build();
 
             return nr.save(notification);
@@ -120,6 +336,8 @@ public class NotificationService {
                 .targetUrl(url)
                 .notificationType(type)
                 .comment(comment)
+                .post(comment.getPost())    // 같은 게시글의 댓글 알림을 합치기 위해 함께 저장
+                .lastActorId(actorId)
                 .build();
 
             return nr.save(notification);
@@ -239,15 +457,10 @@ public class NotificationService {
      * @return 게시판에 따른 게시글 URL
      */
     private String resolvePostUrlByBoard(Post post) {
-        if (post.getBoard().getBoardId() == br.findByName("inquiry").get().getBoardId()) {
+        Integer boardId = post.getBoard().getBoardId();
+        if (brg.isInquiry(boardId)) {
             return "/admin/inquiryRead?postId=" + post.getPostId();
-        } else if (
-            List.of(
-                br.findByName("announcement").get().getBoardId(),
-                br.findByName("announcementIT").get().getBoardId(),
-                br.findByName("announcementJP").get().getBoardId()
-            ).contains(post.getBoard().getBoardId())
-        ) {
+        } else if (brg.isAnnouncement(boardId)) {
             return "/admin/announcement/read?postId=" + post.getPostId();
         } else {
             return "/community/readPost?postId=" + post.getPostId();
@@ -255,66 +468,185 @@ public class NotificationService {
     }
 
     /**
-     * 특정 사용자의 읽지 않은 알림 개수 조회
+     * 특정 사용자의 읽지 않은 알림 개수 조회 (메모리 요약 사용)
      * @param userId 사용자 ID
-     * @return 읽지 않은 알림 개수
+     * @return 읽지 않은 알림 개수 (개인 + 전체 알림)
      */
-    @Transactional(readOnly = true)
     public long getUnreadNotificationCount(Integer userId) {
-        User user = User.builder().userId(userId).build();  // 간단히 ID만 가진 User 객체 생성
-        return nr.countByUserAndIsReadFalse(user);
+        return inbox.get(userId, this::loadSummary).unreadCount();
     }
 
     /**
-     * 특정 사용자의 최근 알림 목록 조회
+     * 특정 사용자의 최근 알림 목록 조회 (개인 + 전체 알림, 최신순)
+     * - NotificationInbox.RECENT_SIZE 이하이면 메모리 요약 사용
      * @param userId 사용자 ID
      * @param limit 조회할 알림 개수
      * @return 최근 알림 목록
      */
-    @Transactional(readOnly = true)
     public List<NotificationDTO> getRecentNotifications(Integer userId, int limit) {
+        if (limit <= NotificationInbox.RECENT_SIZE) {
+            List<NotificationDTO> recent = inbox.get(userId, this::loadSummary).recent();
+            return recent.subList(0, Math.min(limit, recent.size()));
+        }
+        return loadRecent(userId, limit, mrr.findLastBroadcastId(userId).orElse(0));
+    }
+
+    /**
+     * 메모리 요약이 없을 때 DB에서 읽기
+     * - 개인 알림과 전체 알림을 각각 인덱스 범위로 읽어 합침
+     * @param userId 사용자 ID
+     * @return 알림 요약
+     */
+    private NotificationInbox.Snapshot loadSummary(Integer userId) {
+        User user = User.builder().userId(userId).build();  // 간단히 ID만 가진 User 객체 생성
+        int lastBroadcastId = mrr.findLastBroadcastId(userId).orElse(0);
+        long unreadCount = nr.countByUserAndIsReadFalse(user)
+            + nr.countUnreadBroadcasts(userId, lastBroadcastId, Integer.MAX_VALUE);
+        return new NotificationInbox.Snapshot(unreadCount, loadRecent(userId, NotificationInbox.RECENT_SIZE, lastBroadcastId));
+    }
+
+    /**
+     * 최근 알림 limit건 (개인 + 전체 알림)
+     * @param userId 사용자 ID
+     * @param limit 조회할 알림 개수
+     * @param lastBroadcastId 전체 알림 읽음 위치
+     * @return 최근 알림 목록 (최신순)
+     */
+    private List<NotificationDTO> loadRecent(Integer userId, int limit, int lastBroadcastId) {
         User user = User.builder().userId(userId).build();  // 간단히 ID만 가진 User 객체 생성
-        // PageRequest.of(0, limit)로 최신 limit개 알림 조회
-        List<Notification> notifications = nr.findByUserOrderByCreatedAtDesc(user, PageRequest.of(0, limit));
+        PageRequest page = PageRequest.of(0, limit);
+        return merge(
+            nr.findByUserOrderByCreatedAtDesc(user, page),
+            nr.findRecentBroadcasts(userId, page),
+            lastBroadcastId,
+            limit);
+    }
 
-        // Entity List -> DTO List 변환
-        return notifications.stream()
-                .map(NotificationDTO::convertToDTO)
-                .toList();
+    /**
+     * 개인 알림과 전체 알림을 ID 역순으로 합쳐 앞쪽 limit건 반환
+     * - 전체 알림의 읽음 여부는 읽음 위치(lastBroadcastId)로 결정
+     */
+    private List<NotificationDTO> merge(List<Notification> personal, List<Notification> broadcasts, int lastBroadcastId, int limit) {
+        List<NotificationDTO> merged = new ArrayList<>(personal.size() + broadcasts.size());
+        for (Notification notification : personal) {
+            merged.add(NotificationDTO.convertToDTO(notification));
+        }
+        for (Notification notification : broadcasts) {
+            NotificationDTO notificationDTO = NotificationDTO.convertToDTO(notification);
+            notificationDTO.setIsRead(notification.getNotificationId() <= lastBroadcastId);
+            merged.add(notificationDTO);
+        }
+        merged.sort(Comparator.comparing(NotificationDTO::getNotificationId).reversed());
+        return new ArrayList<>(merged.subList(0, Math.min(limit, merged.size())));
     }
 
     /**
      * 알림을 '읽음' 상태로 표시
+     * - 전체 알림이면 사용자의 읽음 위치를 해당 알림까지 이동 (그 이전 전체 알림도 읽음으로 취급)
+     * @param userId 현재 로그인한 사용자 ID
      * @param notificationId 읽음 처리할 알림 ID
+     * @throws AccessDeniedException 다른 사용자의 개인 알림인 경우
      */
     @Transactional
-    public void markAsRead(Integer notificationId) {
+    public void markAsRead(Integer userId, Integer notificationId) {
         Notification notification = nr.findById(notificationId)
                 .orElseThrow(() -> new EntityNotFoundException("알림을 찾을 수 없습니다. ID=" + notificationId));
 
+        if (notification.getUser() == null) {
+            mrr.advance(userId, notificationId);
+            log.debug("전체 알림 읽음 위치 이동 [userId={}, notificationId={}]", userId, notificationId);
+            // 이동한 범위의 읽지 않은 수는 다음 조회 때 다시 셈
+            TransactionUtils.afterCommit(() -> inbox.evict(userId));
+            return;
+        }
+
+        // 다른 사용자의 개인 알림은 읽음 처리할 수 없음
+        Integer ownerId = notification.getUser().getUserId();
+        if (!ownerId.equals(userId)) {
+            throw new AccessDeniedException("이 알림을 읽음 처리할 권한이 없습니다.");
+        }
+
         // 이미 읽은 상태가 아니라면 '읽음'으로 변경
         if (!notification.getIsRead()) {
             notification.setIsRead(true);
             // @Transactional 덕분에 별도의 save 호출 없이 변경 사항이 자동으로 저장됩니다.
             log.debug("알림 읽음 처리 완료 [notificationId={}]", notificationId);
+
+            TransactionUtils.afterCommit(() -> inbox.read(ownerId, notificationId));
         }
     }
 
     /**
-     * 특정 사용자의 모든 알림을 '읽음' 상태로 표시
+     * 특정 사용자의 모든 알림을 '읽음' 상태로 표시 (개인 알림 UPDATE 한 번 + 전체 알림 읽음 위치 이동)
+     * - 시작 시점의 가장 큰 ID까지만 처리하므로 처리 중에 도착한 알림은 읽지 않음 상태로 남음
      * @param userId 사용자 ID
+     * @return 읽음으로 바뀐 알림 수
      */
     @Transactional
-    public void markAllAsRead(Integer userId) {
-        User user = User.builder().userId(userId).build();  // 간단히 ID만 가진 User 객체 생성
+    public int markAllAsRead(Integer userId) {
+        int updated = 0;
+        Integer maxId = nr.findMaxUnreadId(userId);
+        if (maxId != null) {
+            updated = nr.markReadUpTo(userId, maxId);
+        }
+        long broadcastRead = advanceBroadcastMarker(userId, Integer.MAX_VALUE);
+        log.debug("알림 일괄 읽음 처리 완료 [userId={}, maxId={}, 개인 {}건, 전체 {}건]", userId, maxId, updated, broadcastRead);
 
-        // 1. 해당 사용자의 읽지 않은 모든 알림 조회
-        List<Notification> unreadNotifications = nr.findAllByUserAndIsReadFalse(user);
+        // 커밋 후 메모리 알림 요약 갱신
+        if (broadcastRead > 0) {
+            TransactionUtils.afterCommit(() -> inbox.evict(userId));
+        } else if (updated > 0) {
+            int count = updated;
+            TransactionUtils.afterCommit(() -> inbox.readUpTo(userId, maxId, count));
+        }
+        return updated + (int) broadcastRead;
+    }
 
-        // 2. 각 알림의 isRead 필드를 true로 설정
-        for (Notification notification : unreadNotifications) {
-            notification.setIsRead(true);
-            log.debug("알림 읽음 처리 완료 [notificationId={}]", notification.getNotificationId());
+    /**
+     * 특정 알림 ID 이하의 읽지 않은 알림을 나눠서 읽음 처리 (읽지 않은 알림이 매우 많은 경우)
+     * - 개인 알림은 MARK_READ_BATCH_SIZE건씩 별도 트랜잭션으로 커밋하므로 한 번에 오래 잠그지 않음
+     * - 전체 알림은 읽음 위치만 이동
+     * @param userId 사용자 ID
+     * @param upToId 읽음 처리할 마지막 알림 ID
+     * @return 읽음으로 바뀐 알림 수
+     */
+    public int markReadUpTo(Integer userId, Integer upToId) {
+        int total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(tx -> nr.markReadUpToLimited(userId, upToId, MARK_READ_BATCH_SIZE));
+            int count = (updated == null) ? 0 : updated;
+            if (count > 0) {
+                inbox.readUpTo(userId, upToId, count);
+            }
+            total += count;
+            if (count < MARK_READ_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        Long broadcastRead = transactionTemplate.execute(tx -> advanceBroadcastMarker(userId, upToId));
+        if (broadcastRead != null && broadcastRead > 0) {
+            inbox.evict(userId);
+            total += broadcastRead.intValue();
+        }
+        log.debug("알림 읽음 처리 완료 [userId={}, upToId={}, {}건]", userId, upToId, total);
+        return total;
+    }
+
+    /**
+     * 전체 알림 읽음 위치를 maxId 이하의 마지막 전체 알림까지 이동
+     * @return 새로 읽음 처리된 전체 알림 수
+     */
+    private long advanceBroadcastMarker(Integer userId, Integer maxId) {
+        Integer broadcastId = nr.findMaxBroadcastIdUpTo(maxId);
+        if (broadcastId == null) {
+            return 0;
+        }
+        int lastBroadcastId = mrr.findLastBroadcastId(userId).orElse(0);
+        long unread = nr.countUnreadBroadcasts(userId, lastBroadcastId, broadcastId);
+        if (broadcastId > lastBroadcastId) {
+            mrr.advance(userId, broadcastId);
         }
+        return unread;
     }
 }
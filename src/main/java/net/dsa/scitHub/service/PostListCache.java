@@ -0,0 +1,186 @@
+package net.dsa.scitHub.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.PostDTO;
+import net.dsa.scitHub.utils.TransactionUtils;
+
+/**
+ * 게시판 앞쪽 페이지 캐시
+ * - 게시판 / 검색 조건별로 앞쪽 N페이지까지만 캐시 (LRU, 최대 건수 제한)
+ * - 게시글 등록/수정/삭제 시 해당 게시판의 항목만 무효화 (커밋 직후에도 한 번 더)
+ * - 조회수/좋아요 수 등은 무효화 대상이 아니므로 TTL로 오래된 값을 정리
+ * - 적중률은 post.list.cache.* 지표로 노출
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostListCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${board.cache.pages:3}")
+    private int cachedPages;        // 게시판별 캐시할 앞쪽 페이지 수
+
+    @Value("${board.cache.maxEntries:200}")
+    private int maxEntries;         // 최대 캐시 항목 수
+
+    @Value("${board.cache.ttlSeconds:30}")
+    private long ttlSeconds;        // 캐시 유지 시간
+
+    /**
+     * 캐시 키
+     * @param scope      호출 측 구분 (커뮤니티 / 운영실 등 DTO 구성이 다른 경우)
+     * @param boardId    게시판 ID
+     * @param searchType 검색 유형 (목록이면 null)
+     * @param keyword    검색어 (목록이면 null)
+     * @param page       페이지 번호 (0부터)
+     * @param size       페이지 크기
+     * @param sort       정렬 조건
+     */
+    public record Key(String scope, Integer boardId, String searchType, String keyword, int page, int size, String sort) {
+    }
+
+    private record Entry(Page<PostDTO> page, long expiresAt) {
+    }
+
+    /** 접근 순서 LRU (synchronized로 보호) */
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    /** 게시판별 세대 번호: 무효화 전에 읽기 시작한 결과가 캐시에 들어가지 않도록 사용 */
+    private final Map<Integer, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("post.list.cache.hits", hits, LongAdder::sum)
+            .description("게시판 목록 캐시 적중 수").register(meterRegistry);
+        FunctionCounter.builder("post.list.cache.misses", misses, LongAdder::sum)
+            .description("게시판 목록 캐시 미적중 수").register(meterRegistry);
+        FunctionCounter.builder("post.list.cache.invalidations", invalidations, LongAdder::sum)
+            .description("게시판 목록 캐시 무효화 수").register(meterRegistry);
+        Gauge.builder("post.list.cache.size", this, PostListCache::size)
+            .description("게시판 목록 캐시 항목 수").register(meterRegistry);
+        Gauge.builder("post.list.cache.hit.ratio", this, PostListCache::hitRatio)
+            .description("게시판 목록 캐시 적중률").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 생성 (캐시 대상 페이지가 아니면 null)
+     * @param scope      호출 측 구분
+     * @param boardId    게시판 ID
+     * @param searchType 검색 유형
+     * @param keyword    검색어
+     * @param pageable   페이지 정보
+     * @return 캐시 키 또는 null
+     */
+    public Key keyOf(String scope, Integer boardId, String searchType, String keyword, Pageable pageable) {
+        if (pageable.getPageNumber() >= cachedPages) {
+            return null;
+        }
+        boolean listing = keyword == null || keyword.isBlank();
+        return new Key(scope, boardId,
+            listing ? null : searchType,
+            listing ? null : keyword.trim(),
+            pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 읽어서 저장
+     * @param key    캐시 키 (null이면 캐시하지 않음)
+     * @param loader 실제 조회
+     * @return 게시글 페이지
+     */
+    public Page<PostDTO> get(Key key, Supplier<Page<PostDTO>> loader) {
+        if (key == null) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now) {
+                hits.increment();
+                return entry.page();
+            }
+        }
+        misses.increment();
+
+        long generation = generationOf(key.boardId()).get();
+        Page<PostDTO> page = loader.get();
+
+        synchronized (entries) {
+            // 읽는 동안 무효화가 있었으면 저장하지 않음
+            if (generationOf(key.boardId()).get() == generation) {
+                entries.put(key, new Entry(page, now + ttlSeconds * 1000));
+                evictOverflow();
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 게시판의 캐시 항목 무효화 (즉시 + 커밋 직후)
+     * @param boardId 게시판 ID
+     */
+    public void invalidateBoard(Integer boardId) {
+        if (boardId == null) {
+            return;
+        }
+        invalidateNow(boardId);
+        TransactionUtils.afterCommit(() -> invalidateNow(boardId));
+    }
+
+    /** 현재 캐시 항목 수 */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** 현재까지의 적중률 (0 ~ 1) */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    private void invalidateNow(Integer boardId) {
+        generationOf(boardId).incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> boardId.equals(key.boardId()));
+        }
+        invalidations.increment();
+        log.debug("게시판 목록 캐시 무효화: boardId={}", boardId);
+    }
+
+    private AtomicLong generationOf(Integer boardId) {
+        return generations.computeIfAbsent(boardId, id -> new AtomicLong());
+    }
+
+    private void evictOverflow() {
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
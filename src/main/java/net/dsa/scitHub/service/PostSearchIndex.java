@@ -0,0 +1,224 @@
+package net.dsa.scitHub.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.dto.PostListRow;
+import net.dsa.scitHub.entity.board.Post;
+import net.dsa.scitHub.entity.board.Tag;
+import net.dsa.scitHub.repository.board.PostRepository;
+import net.dsa.scitHub.repository.board.TagRepository;
+import net.dsa.scitHub.utils.InvertedIndex;
+import net.dsa.scitHub.utils.NgramTokenizer;
+import net.dsa.scitHub.utils.TransactionUtils;
+
+/**
+ * 커뮤니티 게시글 전문 검색 색인
+ * - 기동 시 DB 전체 게시글을 배치로 읽어 메모리 역색인을 구성
+ * - 게시글 등록/수정/삭제는 트랜잭션 커밋 후 색인에 반영
+ * - 색인 구성이 끝나기 전에는 isReady()가 false → 호출 측은 기존 LIKE 검색을 사용
+ * - 토큰 단위 일치이므로 영문/숫자는 단어 접두어로만 찾음 (단어 중간 일치는 안 됨)
+ *   한 글자 검색어는 호출 측에서 LIKE 검색을 사용 (NgramTokenizer.isShortQuery)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    /** 색인 필드 */
+    public enum Field {
+        TITLE, CONTENT, AUTHOR, TAG
+    }
+
+    /** 기동 시 한 번에 읽어 올 게시글 수 */
+    private static final int BATCH_SIZE = 500;
+
+    private final PostRepository pr;
+    private final TagRepository tr;
+
+    private final InvertedIndex<Field, Integer> index = new InvertedIndex<>(Field.class, Map.of(
+        Field.TITLE, 3.0,
+        Field.CONTENT, 1.0,
+        Field.AUTHOR, 2.0,
+        Field.TAG, 2.0
+    ));
+
+    /** 초기 색인 중에 변경된 게시글 ID (초기 색인이 오래된 내용으로 덮어쓰지 않도록) */
+    private final Set<Integer> touchedDuringBuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean building = false;
+    private volatile boolean ready = false;
+
+    /**
+     * 검색 유형 → 검색 대상 필드
+     * @param searchType 화면에서 넘어오는 검색 유형
+     * @return 검색 대상 필드 (알 수 없는 유형이면 빈 집합)
+     */
+    public static Set<Field> fieldsOf(String searchType) {
+        if (searchType == null) {
+            return EnumSet.noneOf(Field.class);
+        }
+        return switch (searchType) {
+            case "titleAndContent" -> EnumSet.of(Field.TITLE, Field.CONTENT);
+            case "title" -> EnumSet.of(Field.TITLE);
+            case "content" -> EnumSet.of(Field.CONTENT);
+            case "author", "user" -> EnumSet.of(Field.AUTHOR);
+            case "tag" -> EnumSet.of(Field.TAG);
+            case "all" -> EnumSet.allOf(Field.class);
+            default -> EnumSet.noneOf(Field.class);
+        };
+    }
+
+    /** 초기 색인 완료 여부 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시판 내 검색
+     * - 전체 건수는 색인에서 바로 얻으므로 COUNT 쿼리가 없음
+     * @param boardId  게시판 ID
+     * @param keyword  검색어
+     * @param fields   검색 대상 필드
+     * @param pageable 페이지 정보 (정렬은 무시하고 관련도 순)
+     * @return 관련도 순으로 정렬된 게시글 목록 행 페이지
+     */
+    public Page<PostListRow> search(Integer boardId, String keyword, Set<Field> fields, Pageable pageable) {
+        InvertedIndex.Result result = index.search(keyword, fields, boardId::equals,
+            pageable.getOffset(), pageable.getPageSize());
+        if (result.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.totalCount());
+        }
+
+        // IN 조회 결과를 색인 순위대로 재정렬 (색인 반영 직전에 삭제된 글은 제외)
+        Map<Integer, PostListRow> rowMap = new HashMap<>();
+        for (PostListRow row : pr.findListRowsByPostIdIn(result.ids())) {
+            rowMap.put(row.postId(), row);
+        }
+        List<PostListRow> rows = new ArrayList<>();
+        for (Integer postId : result.ids()) {
+            PostListRow row = rowMap.get(postId);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return new PageImpl<>(rows, pageable, result.totalCount());
+    }
+
+    /**
+     * 게시글 색인 요청 (커밋 후 반영)
+     * - 엔티티 값은 호출 시점(트랜잭션 안)에 읽어 둠
+     * @param post     저장된 게시글
+     * @param tagNames 태그 이름 목록
+     */
+    public void index(Post post, List<String> tagNames) {
+        Integer postId = post.getPostId();
+        Integer boardId = post.getBoard().getBoardId();
+        Map<Field, String> fields = toFields(post.getTitle(), post.getContent(),
+            post.getUser().getNameKor(), post.getUser().getUsername(), tagNames);
+        TransactionUtils.afterCommit(() -> {
+            markTouched(postId);
+            index.put(postId, boardId, fields);
+        });
+    }
+
+    /**
+     * 게시글 색인 요청 (현재 태그 목록 사용)
+     * @param post 저장된 게시글
+     */
+    public void index(Post post) {
+        List<String> tagNames = new ArrayList<>();
+        if (post.getTags() != null) {
+            for (Tag tag : post.getTags()) {
+                tagNames.add(tag.getName());
+            }
+        }
+        index(post, tagNames);
+    }
+
+    /**
+     * 게시글 색인 제거 요청 (커밋 후 반영)
+     * @param postId 삭제된 게시글 ID
+     */
+    public void remove(Integer postId) {
+        TransactionUtils.afterCommit(() -> {
+            markTouched(postId);
+            index.remove(postId);
+        });
+    }
+
+    /**
+     * 애플리케이션 기동 후 전체 게시글 색인
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        building = true;
+        long start = System.currentTimeMillis();
+        int count = 0;
+        try {
+            int lastId = 0;
+            Pageable batch = PageRequest.of(0, BATCH_SIZE);
+            while (true) {
+                List<Object[]> rows = pr.findSearchSourceAfter(lastId, batch);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Integer> postIds = rows.stream().map(row -> (Integer) row[0]).toList();
+                Map<Integer, List<String>> tagsByPost = new HashMap<>();
+                for (Object[] tagRow : tr.findPostIdAndNameByPostIdIn(postIds)) {
+                    tagsByPost.computeIfAbsent((Integer) tagRow[0], k -> new ArrayList<>()).add((String) tagRow[1]);
+                }
+
+                for (Object[] row : rows) {
+                    Integer postId = (Integer) row[0];
+                    if (touchedDuringBuild.contains(postId)) {
+                        continue;
+                    }
+                    index.put(postId, (Integer) row[1], toFields((String) row[2], (String) row[3],
+                        (String) row[4], (String) row[5], tagsByPost.getOrDefault(postId, List.of())));
+                    count++;
+                }
+                lastId = postIds.get(postIds.size() - 1);
+            }
+            ready = true;
+            log.info("게시글 검색 색인 구성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 구성 실패 (LIKE 검색으로 동작): {}", e.getMessage(), e);
+        } finally {
+            building = false;
+            touchedDuringBuild.clear();
+        }
+    }
+
+    private void markTouched(Integer postId) {
+        if (building) {
+            touchedDuringBuild.add(postId);
+        }
+    }
+
+    private Map<Field, String> toFields(String title, String content, String nameKor, String username, List<String> tagNames) {
+        Map<Field, String> fields = new EnumMap<>(Field.class);
+        fields.put(Field.TITLE, title);
+        fields.put(Field.CONTENT, NgramTokenizer.stripHtml(content));
+        fields.put(Field.AUTHOR, nameKor + " " + username);
+        fields.put(Field.TAG, String.join(" ", tagNames));
+        return fields;
+    }
+}
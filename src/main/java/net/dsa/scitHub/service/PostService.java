@@ -3,6 +3,7 @@ package net.dsa.scitHub.service;
 import java.util.List;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.dsa.scitHub.dto.CommentDTO;
 import net.dsa.scitHub.dto.PostDTO;
 import net.dsa.scitHub.dto.PostDetailDTO;
+import net.dsa.scitHub.dto.PostListRow;
 import net.dsa.scitHub.entity.board.Board;
 import net.dsa.scitHub.entity.board.Comment;
 import net.dsa.scitHub.entity.board.Post;
@@ -28,6 +30,7 @@ import net.dsa.scitHub.repository.board.BoardRepository;
 import net.dsa.scitHub.repository.board.CommentRepository;
 import net.dsa.scitHub.repository.board.PostRepository;
 import net.dsa.scitHub.repository.user.UserRepository;
+import net.dsa.scitHub.utils.NgramTokenizer;
 
 @Service
 @Slf4j
@@ -39,6 +42,13 @@ public class PostService {
     private final BoardRepository br;
     private final CommentRepository cr;
     private final NotificationService ns;
+    private final PostSearchIndex psi;
+    private final ViewCountBuffer vcb;
+    private final PostListCache plc;
+    private final AnnouncementFanoutService afs;
+
+    /** 게시판 목록 캐시 구분 */
+    private static final String CACHE_SCOPE = "admin";
 
     /**
      * 게시판 ID와 검색 조건에 따른 게시글 목록 조회 (페이징)
@@ -62,9 +72,36 @@ public class PostService {
         // 페이지 요청 객체 생성 (페이지 번호, 크기, 정렬 기준)
 		Pageable pageable = PageRequest.of(page, pageSize, sort);
 
-        // 검색 조건에 따른 데이터 조회
-		Page<Post> entityPage;
+        // 앞쪽 페이지는 캐시에서 조회
+        return plc.get(
+            plc.keyOf(CACHE_SCOPE, boardId, searchType, searchWord, pageable),
+            () -> loadPostPage(pageable, boardId, searchType, searchWord)
+        );
+    }
+
+    /**
+     * 게시판 ID와 검색 조건에 따른 게시글 목록 조회 (캐시 미적중 시)
+     * @param pageable      페이지 정보
+     * @param boardId       게시판 ID
+     * @param searchType    검색 유형
+     * @param searchWord    검색어
+     * @return              페이징 처리된 게시글 목록
+     */
+    private Page<PostDTO> loadPostPage(Pageable pageable, int boardId, String searchType, String searchWord) {
+        // 검색어가 없으면 목록 컬럼만 조회
+        if (searchWord == null || searchWord.isBlank()) {
+            return pr.findListRowsByBoard(boardId, pageable).map(this::toListDTO);
+        }
+
+        // 색인이 준비되어 있으면 색인에서 관련도 순으로 조회 (목록 컬럼만 조회)
+        // 한 글자 검색어는 부분 문자열 일치를 유지하기 위해 LIKE 검색 사용
+        Set<PostSearchIndex.Field> fields = PostSearchIndex.fieldsOf(searchType);
+        if (psi.isReady() && !fields.isEmpty() && !NgramTokenizer.isShortQuery(searchWord)) {
+            return psi.search(boardId, searchWord, fields, pageable).map(this::toListDTO);
+        }
 
+        // 색인 구성 전에는 검색 조건에 따른 데이터 조회
+		Page<Post> entityPage;
         switch (searchType) {
             case "title" -> entityPage = pr.findByBoard_BoardIdAndTitleContaining(boardId, searchWord, pageable);
             case "tag" -> entityPage = pr.findByBoard_BoardIdAndTags_NameContaining(boardId, searchWord, pageable);
@@ -76,7 +113,9 @@ public class PostService {
 
         List<PostDTO> postDTOList = new ArrayList<>();
         for (Post post : entityPage) {
-            postDTOList.add(PostDTO.convertToPostDTO(post));
+            PostDTO postDTO = PostDTO.convertToPostDTO(post);
+            postDTO.setViewCount(vcb.withPending(post.getPostId(), post.getViewCount()));
+            postDTOList.add(postDTO);
         }
 
         return new PageImpl<>(
@@ -92,12 +131,12 @@ public class PostService {
      * @return          최신 게시글 3개 목록
      */
     public List<PostDTO> getLatestPosts(int boardId, int count) {
-        Pageable pageable = PageRequest.of(0, count, Sort.by(Sort.Order.desc("createdAt")));
-        Page<Post> postPage = pr.findByBoard_BoardId(boardId, pageable);
+        Pageable pageable = PageRequest.of(0, count);
+        List<PostListRow> rows = pr.findFirstByBoardKeyset(boardId, pageable);
 
         List<PostDTO> postDTOList = new ArrayList<>();
-        for (Post post : postPage) {
-            postDTOList.add(PostDTO.convertToPostDTO(post));
+        for (PostListRow row : rows) {
+            postDTOList.add(toListDTO(row));
         }
 
         return postDTOList;
@@ -116,6 +155,8 @@ public class PostService {
 
         Post post = PostDTO.convertToPostEntity(postDTO, user, board);
         pr.save(post);
+        psi.index(post, List.of());
+        plc.invalidateBoard(board.getBoardId());
     }
 
     /**
@@ -134,16 +175,13 @@ public class PostService {
         Post post = PostDTO.convertToPostEntity(postDTO, user, board);
 
         Post savedPost = pr.save(post);
+        psi.index(savedPost, List.of());
+        plc.invalidateBoard(board.getBoardId());
 
-        // 공지사항 게시판에 글이 작성되면 모든 사용자에게 알림 전송
-        if (List.of("announcement", "announcementIT", "announcementJP").contains(board.getName())) {
+        // 공지사항 게시판에 글이 작성되면 모든 사용자에게 알림 전송 (커밋 후 백그라운드에서 일괄 처리)
+        if (BoardRegistry.ANNOUNCEMENT_BOARDS.contains(board.getName())) {
             log.debug("공지사항 보드 이름: " + board.getName());
-            List<User> allUsersExceptCreator = ur.findByUserIdNotAndIsActiveTrue(user.getUserId());
-            for (User recipient : allUsersExceptCreator) {
-                ns.send(recipient, NotificationType.NEW_ANNOUNCEMENT, post);
-                log.debug("공지사항 알림 전송: {} -> {}", recipient.getUserId(), post.getPostId());
-            }
-            log.info("관리자가 공지사항을 등록하여 {}명에게 알림을 전송했습니다.", allUsersExceptCreator.size());
+            afs.broadcast(NotificationType.NEW_ANNOUNCEMENT, savedPost, user);
         }
 
         return savedPost;
@@ -158,7 +196,10 @@ public class PostService {
         Post post = pr.findPostWithDetailsById(postId)
             .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
 
-        return PostDetailDTO.convertToPostDetailDTO(post);
+        PostDetailDTO postDetail = PostDetailDTO.convertToPostDetailDTO(post);
+        // 아직 DB에 반영되지 않은 조회수 증가분 포함
+        postDetail.setViewCount(vcb.withPending(post.getPostId(), post.getViewCount()));
+        return postDetail;
     }
 
     /**
@@ -184,6 +225,8 @@ public class PostService {
 
         // 변경 사항을 저장(flush)하고 갱신된 엔티티를 반환
         Post updatedPost = pr.save(post);
+        psi.index(updatedPost);
+        plc.invalidateBoard(updatedPost.getBoard().getBoardId());
 
         // 갱신된 엔티티로 PostDTO 생성 및 반환
         return PostDTO.convertToPostDTO(updatedPost);
@@ -204,6 +247,8 @@ public class PostService {
         }
 
         pr.delete(post);
+        psi.remove(postId);
+        plc.invalidateBoard(post.getBoard().getBoardId());
     }
 
     /**
@@ -225,6 +270,9 @@ public class PostService {
             .build();
 
         Comment savedComment = cr.save(comment);
+        pr.incrementCommentCount(post.getPostId());
+        // 문의 답변 여부가 목록에 표시되므로 목록 캐시 무효화
+        plc.invalidateBoard(post.getBoard().getBoardId());
 
         // 게시글 작성자에게 댓글 알림 전송
         ns.send(post.getUser(), NotificationType.NEW_COMMENT_ON_POST, savedComment);
@@ -272,6 +320,10 @@ public class PostService {
         }
 
         cr.delete(comment);
+        if (comment.getPost() != null) {
+            pr.decrementCommentCount(comment.getPost().getPostId());
+            plc.invalidateBoard(comment.getPost().getBoard().getBoardId());
+        }
     }
 
     /**
@@ -292,12 +344,23 @@ public class PostService {
         // 2. PageRequest를 사용해 상위 N개만 가져오도록 설정
         Pageable pageable = PageRequest.of(0, count);
 
-        // 3. Repository를 호출하여 엔티티 목록을 가져옴
-        List<Post> posts = pr.findByBoard_NameInOrderByCreatedAtDesc(announcementBoardNames, pageable);
+        // 3. Repository를 호출하여 목록 컬럼만 가져옴
+        List<PostListRow> rows = pr.findLatestListRowsByBoardNames(announcementBoardNames, pageable);
 
-        // 4. 엔티티 목록을 DTO 목록으로 변환하여 반환
-        return posts.stream()
-                .map(PostDTO::convertToPostDTO)
+        // 4. 목록 행을 DTO 목록으로 변환하여 반환
+        return rows.stream()
+                .map(this::toListDTO)
                 .toList();
     }
+
+    /**
+     * 목록 행 -> 목록용 DTO (버퍼에 쌓인 조회수 포함)
+     * @param row 목록 행
+     * @return PostDTO
+     */
+    private PostDTO toListDTO(PostListRow row) {
+        PostDTO postDTO = PostDTO.convertToPostDTO(row);
+        postDTO.setViewCount(vcb.withPending(row.postId(), row.viewCount()));
+        return postDTO;
+    }
 }
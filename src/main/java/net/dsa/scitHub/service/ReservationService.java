@@ -24,7 +24,6 @@ import net.dsa.scitHub.entity.reservation.Reservation;
 import net.dsa.scitHub.entity.user.User;
 import net.dsa.scitHub.repository.classroom.ClassroomRepository;
 import net.dsa.scitHub.repository.reservation.ReservationRepository;
-import net.dsa.scitHub.repository.user.UserRepository;
 import net.dsa.scitHub.security.AuthenticatedUser;
 
 @Service
@@ -33,7 +32,7 @@ import net.dsa.scitHub.security.AuthenticatedUser;
 @Transactional
 public class ReservationService {
     private final ReservationRepository rr;
-    private final UserRepository ur;
+    private final CurrentUserProvider cu;
     private final ClassroomRepository cr;
 
     /**
@@ -46,9 +45,8 @@ public class ReservationService {
     public ReservationDTO createReservation(AuthenticatedUser userDetails,
             ReservationRequestDTO reservationRequestDTO) {
 
-        // user 찾기
-        User user = ur.findByUsername(userDetails.getId())
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        // user 참조 (FK 지정용, SELECT 없음)
+        User user = cu.getReference(userDetails.getId());
 
         // classroom 찾기
         Classroom classroom = cr.findById(reservationRequestDTO.getClassroomId())
@@ -3,12 +3,15 @@ package net.dsa.scitHub.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.repository.board.PostRepository;
 import net.dsa.scitHub.repository.reservation.ReservationRepository;
 
 @Component
@@ -18,6 +21,7 @@ import net.dsa.scitHub.repository.reservation.ReservationRepository;
 public class ScheduledTasksService {
 
     private final ReservationRepository rr;
+    private final PostRepository pr;
 
     /**
      * 매일 새벽 4시에 실행되어, '오늘' 이전의모든 예약을 삭제합니다.
@@ -30,4 +34,19 @@ public class ScheduledTasksService {
         rr.deleteReservationsBefore(today);
         log.info("오래된 예약 데이터 정리 작업을 완료했습니다.");
     }
+
+    /**
+     * 애플리케이션 기동 직후와 매시 15분에 실행되어, 게시글의 좋아요/댓글 카운터를 실제 행 수와 맞춥니다.
+     * (컬럼 추가 직후의 초기값 채우기, 수동 DB 작업 등으로 생긴 오차 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 15 * * * *")
+    public void reconcilePostCounters() {
+        int fixed = pr.reconcileCounters();
+        if (fixed > 0) {
+            log.info("게시글 카운터 보정 완료: {}건", fixed);
+        } else {
+            log.debug("게시글 카운터 보정 대상 없음");
+        }
+    }
 }
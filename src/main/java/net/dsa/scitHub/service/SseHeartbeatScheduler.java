@@ -0,0 +1,55 @@
+package net.dsa.scitHub.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.repository.board.SseEmitterRepository;
+
+/**
+ * SSE 연결 하트비트
+ * - 하나의 스케줄러가 주기적으로 모든 연결에 주석 이벤트를 보내 프록시가 유휴 연결을 끊지 않도록 유지
+ * - 전송은 SseSender의 연결별 대기열을 거치며, 전송에 실패한 연결은 전송 스레드가 제거
+ * - 멈춘 클라이언트는 하트비트가 대기열에 쌓여 대기열 초과 정책(기본: 연결 종료)으로 정리됨
+ * - 전송 하나가 오래 끝나지 않는 연결(느린 클라이언트)은 하트비트 전에 종료해 전송 스레드를 돌려받음
+ * - 연결 수 / 접속 사용자 수는 sse.connections, sse.connected.users 지표로 노출
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private final SseEmitterRepository ser;
+    private final SseSender sender;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("sse.connections", ser, SseEmitterRepository::count)
+            .description("SSE 연결 수").register(meterRegistry);
+        Gauge.builder("sse.connected.users", ser, SseEmitterRepository::countUsers)
+            .description("SSE 접속 사용자 수").register(meterRegistry);
+    }
+
+    /**
+     * 모든 연결의 전송 대기열에 하트비트 추가 (기본 25초 주기)
+     */
+    @Scheduled(fixedDelayString = "${notification.heartbeatMillis:25000}")
+    public void heartbeat() {
+        sender.closeStalled();
+        int total = ser.count();
+        if (total == 0) {
+            return;
+        }
+
+        int queued = sender.sendToAll(() -> SseEmitter.event().comment("heartbeat"));
+        if (queued < total) {
+            log.info("하트비트를 보내지 못한 SSE 연결: {}건 / 전체 {}건", total - queued, total);
+        }
+    }
+}
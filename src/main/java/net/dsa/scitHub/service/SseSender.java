@@ -0,0 +1,290 @@
+package net.dsa.scitHub.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.repository.board.SseEmitterRepository;
+
+/**
+ * SSE 전송 대기열
+ * - 연결마다 크기가 정해진 전송 대기열을 두고, 전송 전용 스레드 풀이 대기열을 비우며 실제 네트워크 전송
+ * - 요청 스레드 / 트랜잭션은 대기열에 넣기만 하므로 느리거나 멈춘 클라이언트 때문에 기다리지 않음
+ * - 대기열이 가득 차면 overflowPolicy에 따라 가장 오래된 이벤트 버림 / 새 이벤트 버림 / 연결 종료
+ *   (연결을 끊으면 브라우저가 Last-Event-ID로 재연결해 놓친 알림을 DB에서 다시 받음)
+ * - 네트워크 전송은 블로킹이므로, 전송 하나가 sendTimeoutMillis 넘게 끝나지 않는 연결은 하트비트 때 종료
+ *   (TCP 윈도가 가득 찬 느린 클라이언트 몇 개가 전송 스레드를 모두 붙잡지 않도록)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SseSender {
+
+    /** 대기열이 가득 찼을 때의 처리 */
+    public enum OverflowPolicy {
+        DROP_OLDEST,    // 가장 오래된 이벤트를 버리고 새 이벤트를 넣음
+        DROP_NEWEST,    // 새 이벤트를 버림
+        CLOSE           // 연결 종료 (클라이언트가 재연결 후 재전송받음)
+    }
+
+    /** 한 번 실행에서 연결 하나가 보낼 최대 이벤트 수 (다른 연결에 스레드 양보) */
+    private static final int DRAIN_BATCH = 32;
+
+    private final SseEmitterRepository ser;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.sse.queueCapacity:100}")
+    private int queueCapacity;              // 연결당 전송 대기열 크기
+
+    @Value("${notification.sse.overflowPolicy:CLOSE}")
+    private OverflowPolicy overflowPolicy;  // 대기열이 가득 찼을 때의 처리
+
+    @Value("${notification.sse.senderThreads:4}")
+    private int senderThreads;              // 전송 전용 스레드 수
+
+    @Value("${notification.sse.sendTimeoutMillis:10000}")
+    private long sendTimeoutMillis;         // 전송 하나가 이 시간보다 오래 걸리면 연결 종료
+
+    private ExecutorService executor;
+    private final Map<String, Outbound> outbounds = new ConcurrentHashMap<>();
+
+    /** 연결별 전송 대기열 (한 연결은 동시에 한 스레드만 전송) */
+    private class Outbound {
+        final SseEmitterRepository.Connection connection;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean draining = new AtomicBoolean();
+        /** 이 연결에 지정한 가장 큰 이벤트 ID (합쳐진 알림도 ID가 줄어들지 않도록) */
+        final AtomicInteger lastEventId = new AtomicInteger();
+        /** 진행 중인 전송의 시작 시각 (전송 중이 아니면 0) */
+        volatile long sendingSince;
+        volatile boolean closed;
+
+        Outbound(SseEmitterRepository.Connection connection) {
+            this.connection = connection;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("sse.outbound.queued", outbounds, map -> map.values().stream().mapToInt(o -> o.queue.size()).sum())
+            .description("SSE 전송 대기 중인 이벤트 수").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 연결 등록 (Emitter가 끝나면 대기열과 함께 자동 제거)
+     * @param userId  사용자 ID
+     * @param emitter Emitter
+     * @return 연결 ID
+     */
+    public String open(Integer userId, SseEmitter emitter) {
+        String connectionId = ser.save(userId, emitter);
+        SseEmitterRepository.Connection connection = new SseEmitterRepository.Connection(userId, connectionId, emitter);
+        outbounds.put(connectionId, new Outbound(connection));
+
+        emitter.onCompletion(() -> discard(connection));
+        emitter.onTimeout(() -> discard(connection));
+        emitter.onError(e -> discard(connection));
+        return connectionId;
+    }
+
+    /**
+     * 연결의 전송 대기열에 이벤트 추가 (네트워크 전송은 전송 스레드에서 진행)
+     * @param connection 연결
+     * @param event      보낼 이벤트 (연결마다 새로 만든 것)
+     * @return 대기열에 넣었으면 true (연결이 없거나 대기열 초과로 버리거나 연결을 끊었으면 false)
+     */
+    public boolean send(SseEmitterRepository.Connection connection, SseEmitter.SseEventBuilder event) {
+        Outbound outbound = outbounds.get(connection.connectionId());
+        if (outbound == null || outbound.closed) {
+            return false;
+        }
+        if (!outbound.queue.offer(event) && !overflow(outbound, event)) {
+            return false;
+        }
+        schedule(outbound);
+        return true;
+    }
+
+    /**
+     * 알림 이벤트 추가 (이벤트 ID를 연결별로 지정)
+     * - 이벤트 ID는 알림 ID와 이 연결에 지금까지 지정한 ID 중 큰 값 (합쳐진 알림은 예전 알림 ID이므로
+     *   그대로 쓰면 Last-Event-ID가 뒤로 돌아가 재연결 시 이미 받은 알림을 다시 받게 됨)
+     * @param connection     연결
+     * @param notificationId 알림 ID (null이면 이벤트 ID 없이 전송)
+     * @param event          ID를 지정하지 않은 이벤트 (연결마다 새로 만든 것)
+     * @return 대기열에 넣었으면 true
+     */
+    public boolean sendNotification(SseEmitterRepository.Connection connection, Integer notificationId,
+            SseEmitter.SseEventBuilder event) {
+        Outbound outbound = outbounds.get(connection.connectionId());
+        if (outbound == null || outbound.closed) {
+            return false;
+        }
+        if (notificationId != null) {
+            event.id(String.valueOf(outbound.lastEventId.accumulateAndGet(notificationId, Math::max)));
+        }
+        return send(connection, event);
+    }
+
+    /**
+     * 재연결한 연결의 이벤트 ID 기준 지정 (클라이언트가 보낸 Last-Event-ID)
+     * @param connection  연결
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID
+     */
+    public void resumeFrom(SseEmitterRepository.Connection connection, int lastEventId) {
+        Outbound outbound = outbounds.get(connection.connectionId());
+        if (outbound != null) {
+            outbound.lastEventId.accumulateAndGet(lastEventId, Math::max);
+        }
+    }
+
+    /**
+     * 모든 연결에 이벤트 추가 (하트비트 등)
+     * @param events 연결마다 새 이벤트를 만드는 함수
+     * @return 대기열에 넣은 연결 수
+     */
+    public int sendToAll(Supplier<SseEmitter.SseEventBuilder> events) {
+        int queued = 0;
+        for (SseEmitterRepository.Connection connection : ser.findAll()) {
+            if (send(connection, events.get())) {
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * 연결 제거 (대기 중인 이벤트는 버림)
+     * @param connection 연결
+     */
+    public void discard(SseEmitterRepository.Connection connection) {
+        Outbound outbound = outbounds.remove(connection.connectionId());
+        if (outbound != null) {
+            outbound.closed = true;
+            outbound.queue.clear();
+        }
+        ser.delete(connection.userId(), connection.connectionId());
+    }
+
+    /**
+     * 전송 하나가 sendTimeoutMillis 넘게 끝나지 않은 연결 종료 (하트비트 주기마다 호출)
+     * - Emitter를 끝내면 응답이 닫혀 막혀 있던 전송 스레드도 오류로 빠져나옴
+     * @return 종료한 연결 수
+     */
+    public int closeStalled() {
+        long threshold = System.currentTimeMillis() - sendTimeoutMillis;
+        int closed = 0;
+        for (Outbound outbound : outbounds.values()) {
+            long since = outbound.sendingSince;
+            if (since != 0 && since < threshold) {
+                log.info("SSE 전송이 {}ms 넘게 끝나지 않아 연결 종료 [userId={}, connectionId={}]",
+                    sendTimeoutMillis, outbound.connection.userId(), outbound.connection.connectionId());
+                close(outbound.connection);
+                closed++;
+            }
+        }
+        if (closed > 0) {
+            meterRegistry.counter("sse.outbound.stalled").increment(closed);
+        }
+        return closed;
+    }
+
+    /** 연결 제거 후 Emitter 종료 (클라이언트는 재연결해 놓친 알림을 다시 받음) */
+    private void close(SseEmitterRepository.Connection connection) {
+        discard(connection);
+        try {
+            connection.emitter().complete();
+        } catch (IllegalStateException e) {
+            log.debug("이미 종료된 SSE 연결 [connectionId={}]", connection.connectionId());
+        }
+    }
+
+    /** 대기열이 가득 찼을 때 정책 적용 (새 이벤트를 넣었으면 true) */
+    private boolean overflow(Outbound outbound, SseEmitter.SseEventBuilder event) {
+        SseEmitterRepository.Connection connection = outbound.connection;
+        meterRegistry.counter("sse.outbound.overflow", "policy", overflowPolicy.name()).increment();
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                outbound.queue.poll();
+                return outbound.queue.offer(event);
+            case DROP_NEWEST:
+                log.debug("SSE 전송 대기열 초과로 이벤트 버림 [connectionId={}]", connection.connectionId());
+                return false;
+            case CLOSE:
+            default:
+                log.info("SSE 전송 대기열 초과로 연결 종료 [userId={}, connectionId={}]", connection.userId(), connection.connectionId());
+                close(connection);
+                return false;
+        }
+    }
+
+    /** 전송 중이 아니면 전송 스레드에 대기열 비우기 요청 */
+    private void schedule(Outbound outbound) {
+        if (outbound.draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(outbound));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                outbound.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Outbound outbound) {
+        SseEmitterRepository.Connection connection = outbound.connection;
+        try {
+            for (int i = 0; i < DRAIN_BATCH && !outbound.closed; i++) {
+                SseEmitter.SseEventBuilder event = outbound.queue.poll();
+                if (event == null) {
+                    break;
+                }
+                outbound.sendingSince = System.currentTimeMillis();
+                try {
+                    connection.emitter().send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE 전송 실패로 연결 제거 [userId={}, connectionId={}]: {}",
+                        connection.userId(), connection.connectionId(), e.getMessage());
+                    discard(connection);
+                    return;
+                } finally {
+                    outbound.sendingSince = 0;
+                }
+            }
+        } finally {
+            outbound.draining.set(false);
+        }
+        // 남은 이벤트가 있으면 (배치 한도 초과 또는 전송 중에 추가됨) 다시 예약
+        if (!outbound.closed && !outbound.queue.isEmpty()) {
+            schedule(outbound);
+        }
+    }
+}
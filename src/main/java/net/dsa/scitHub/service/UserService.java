@@ -34,6 +34,7 @@ public class UserService {
     private final UserRepository ur;
     private final BCryptPasswordEncoder passwordEncoder;
     private final FileManager fileManager;
+    private final CurrentUserProvider cu;
 
     /**
      * 아이디 중복 확인
@@ -89,21 +90,8 @@ public class UserService {
      * @return MypageDTO - 화면 표시용 정보
      */
     public MypageDTO getMemberInfo(String username) {
-        User entity = ur.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException("該当するユーザーが見つかりません。IDをご確認のうえ、再度お試しください。"));
-
-        return MypageDTO.builder()
-                .userId(entity.getUserId())
-                .cohortNo(entity.getCohortNo())
-                .avatarUrl(entity.getAvatarUrl())
-                .userName(entity.getUsername())
-                .name(entity.getNameKor())
-                .birth(entity.getBirthDate())
-                .gender(entity.getGender().name())
-                .email(entity.getEmail())
-                .phone(entity.getPhone())
-                .role(entity.getRole().getDisplayName())
-                .build();
+        // 요청당 한 번만 조회 (헤더/사이드바와 화면이 같은 요청에서 함께 사용)
+        return cu.getSnapshot(username);
     }
 
     /**
@@ -151,7 +139,7 @@ public class UserService {
 
         log.debug("저장되는 Entity: {}", entity);
         ur.save(entity); // @Transactional 이므로 커밋 시점에 flush
-        log.debug("저장 후 조회: {}", ur.findByUsername(dto.getUserName()));
+        cu.refresh();    // 같은 요청에서 다시 표시할 경우 수정된 정보로 조회
     }
 
     /**
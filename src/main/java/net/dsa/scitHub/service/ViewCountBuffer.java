@@ -0,0 +1,101 @@
+package net.dsa.scitHub.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.dsa.scitHub.repository.board.PostRepository;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * - 조회 시에는 메모리에서만 게시글별 증가분을 누적 (행 잠금 없음)
+ * - 일정 주기 / 애플리케이션 종료 시 증가분을 모아 UPDATE
+ * - 같은 증가분끼리 묶어 IN 절로 갱신하므로 대부분 1~2회의 UPDATE로 끝남
+ * - 반영 트랜잭션이 커밋되지 못하면 (쿼리/커밋 실패 모두) 꺼낸 증가분을 되돌려 다음 주기에 재시도
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final PostRepository pr;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 게시글 ID → 아직 DB에 반영되지 않은 조회수 증가분 */
+    private final ConcurrentHashMap<Integer, Long> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     * @param postId 게시글 ID
+     */
+    public void increment(Integer postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * DB 값에 아직 반영되지 않은 증가분을 더한 조회수
+     * @param postId    게시글 ID
+     * @param viewCount DB에서 읽은 조회수
+     * @return 현재 조회수
+     */
+    public int withPending(Integer postId, Integer viewCount) {
+        int base = (viewCount == null) ? 0 : viewCount;
+        return base + pending.getOrDefault(postId, 0L).intValue();
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영 (기본 5초 주기)
+     */
+    @Scheduled(fixedDelayString = "${board.viewFlushMillis:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키별로 원자적으로 꺼내므로 꺼낸 뒤의 증가분은 다음 주기로 넘어감
+        Map<Long, List<Integer>> postIdsByDelta = new HashMap<>();
+        for (Integer postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null && delta > 0) {
+                postIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId);
+            }
+        }
+
+        Integer updated;
+        try {
+            // 커밋까지 포함해 실패하면 예외 (종료 시 자기 호출에서도 트랜잭션 적용)
+            updated = transactionTemplate.execute(tx -> {
+                int rows = 0;
+                for (Map.Entry<Long, List<Integer>> entry : postIdsByDelta.entrySet()) {
+                    rows += pr.addViewCount(entry.getKey().intValue(), entry.getValue());
+                }
+                return rows;
+            });
+        } catch (RuntimeException e) {
+            // 트랜잭션 전체가 롤백되므로 꺼낸 증가분을 되돌려 두고 다음 주기에 재시도
+            postIdsByDelta.forEach((delta, postIds) ->
+                postIds.forEach(postId -> pending.merge(postId, delta, Long::sum)));
+            throw e;
+        }
+        log.debug("조회수 반영: 게시글 {}건, UPDATE {}회", updated, postIdsByDelta.size());
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 조회수 버퍼 반영 완료");
+    }
+}
@@ -0,0 +1,224 @@
+package net.dsa.scitHub.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 기반 역색인 (문서 ID → 필드별 토큰 빈도)
+ * - 필드마다 가중치를 두고 BM25와 비슷한 방식으로 점수를 매김
+ * - 검색어의 모든 토큰을 포함하는 문서만 결과로 반환 (AND 검색)
+ * - 읽기/쓰기 잠금으로 동시 접근을 보호
+ *
+ * @param <F> 색인 필드 enum
+ * @param <M> 검색 시 필터링에 쓰는 문서 메타데이터 (게시판 ID, 송수신자 등)
+ */
+public class InvertedIndex<F extends Enum<F>, M> {
+
+    /** 토큰 빈도 포화 계수 */
+    private static final double K1 = 1.2;
+
+    private final Map<F, Double> weights;
+    private final Map<F, NavigableMap<String, Map<Integer, Integer>>> postings;
+    private final Map<Integer, IndexedDoc<F, M>> docs = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 검색 결과
+     * @param ids        현재 페이지의 문서 ID 목록 (점수 순)
+     * @param totalCount 조건에 맞는 전체 문서 수
+     */
+    public record Result(List<Integer> ids, long totalCount) {
+    }
+
+    private record IndexedDoc<F, M>(M meta, Map<F, Map<String, Integer>> termFreqs) {
+    }
+
+    public InvertedIndex(Class<F> fieldType, Map<F, Double> weights) {
+        this.weights = new EnumMap<>(weights);
+        this.postings = new EnumMap<>(fieldType);
+        for (F field : fieldType.getEnumConstants()) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * 문서를 색인 (이미 있으면 교체)
+     * @param docId  문서 ID
+     * @param meta   필터링용 메타데이터
+     * @param fields 필드별 원문
+     */
+    public void put(int docId, M meta, Map<F, String> fields) {
+        Map<F, Map<String, Integer>> termFreqs = new HashMap<>();
+        fields.forEach((field, text) -> {
+            Map<String, Integer> freqs = new HashMap<>();
+            for (String token : NgramTokenizer.tokenize(text)) {
+                freqs.merge(token, 1, Integer::sum);
+            }
+            termFreqs.put(field, freqs);
+        });
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            docs.put(docId, new IndexedDoc<>(meta, termFreqs));
+            termFreqs.forEach((field, freqs) -> {
+                NavigableMap<String, Map<Integer, Integer>> fieldPostings = postings.get(field);
+                freqs.forEach((term, tf) ->
+                    fieldPostings.computeIfAbsent(term, t -> new HashMap<>()).put(docId, tf));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거
+     * @param docId 문서 ID
+     */
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 메타데이터만 교체 (본문은 그대로 두고 플래그 등만 바뀐 경우)
+     * @param docId 문서 ID
+     * @param meta  새 메타데이터
+     */
+    public void updateMeta(int docId, M meta) {
+        lock.writeLock().lock();
+        try {
+            IndexedDoc<F, M> doc = docs.get(docId);
+            if (doc != null) {
+                docs.put(docId, new IndexedDoc<>(meta, doc.termFreqs()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 색인된 문서 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색
+     * @param query  검색어
+     * @param fields 검색 대상 필드
+     * @param filter 메타데이터 조건 (게시판, 사용자 등)
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 점수 순으로 정렬된 현재 페이지 ID 목록과 전체 건수
+     */
+    public Result search(String query, Set<F> fields, Predicate<M> filter, long offset, int limit) {
+        List<NgramTokenizer.QueryTerm> terms = NgramTokenizer.tokenizeQuery(query);
+        if (terms.isEmpty() || fields.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int totalDocs = Math.max(docs.size(), 1);
+
+            // 토큰별 (문서 → 점수) 계산 후, 결과가 작은 것부터 교집합
+            List<Map<Integer, Double>> perTerm = new ArrayList<>();
+            for (NgramTokenizer.QueryTerm term : terms) {
+                Map<Integer, Double> scores = scoreTerm(term, fields, filter, totalDocs);
+                if (scores.isEmpty()) {
+                    return new Result(List.of(), 0);
+                }
+                perTerm.add(scores);
+            }
+            perTerm.sort(Comparator.comparingInt(Map::size));
+
+            Map<Integer, Double> merged = new HashMap<>(perTerm.get(0));
+            for (int i = 1; i < perTerm.size() && !merged.isEmpty(); i++) {
+                Map<Integer, Double> next = perTerm.get(i);
+                merged.keySet().retainAll(next.keySet());
+                merged.replaceAll((docId, score) -> score + next.get(docId));
+            }
+
+            List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(merged.entrySet());
+            ranked.sort(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed()));
+
+            List<Integer> page = ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+            return new Result(page, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Integer, Double> scoreTerm(NgramTokenizer.QueryTerm term, Set<F> fields, Predicate<M> filter, int totalDocs) {
+        Map<Integer, Double> scores = new HashMap<>();
+        for (F field : fields) {
+            NavigableMap<String, Map<Integer, Integer>> fieldPostings = postings.get(field);
+            Map<String, Map<Integer, Integer>> matched;
+            if (term.prefix()) {
+                matched = fieldPostings.subMap(term.text(), true, term.text() + Character.MAX_VALUE, true);
+            } else {
+                Map<Integer, Integer> exact = fieldPostings.get(term.text());
+                matched = (exact == null) ? Map.of() : Map.of(term.text(), exact);
+            }
+
+            // 접두어 검색이면 일치하는 토큰들의 빈도를 문서별로 합산
+            Map<Integer, Integer> tfByDoc = new HashMap<>();
+            matched.values().forEach(docTf -> docTf.forEach((docId, tf) -> tfByDoc.merge(docId, tf, Integer::sum)));
+            if (tfByDoc.isEmpty()) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (double) totalDocs / tfByDoc.size());
+            double weight = weights.getOrDefault(field, 1.0);
+            tfByDoc.forEach((docId, tf) -> {
+                IndexedDoc<F, M> doc = docs.get(docId);
+                if (doc != null && filter.test(doc.meta())) {
+                    scores.merge(docId, weight * idf * tf / (tf + K1), Double::sum);
+                }
+            });
+        }
+        return scores;
+    }
+
+    private void removeInternal(int docId) {
+        IndexedDoc<F, M> old = docs.remove(docId);
+        if (old == null) {
+            return;
+        }
+        old.termFreqs().forEach((field, freqs) -> {
+            NavigableMap<String, Map<Integer, Integer>> fieldPostings = postings.get(field);
+            for (String term : freqs.keySet()) {
+                Map<Integer, Integer> docTf = fieldPostings.get(term);
+                if (docTf != null) {
+                    docTf.remove(docId);
+                    if (docTf.isEmpty()) {
+                        fieldPostings.remove(term);
+                    }
+                }
+            }
+        });
+    }
+}
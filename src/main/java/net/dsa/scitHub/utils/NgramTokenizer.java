@@ -0,0 +1,167 @@
+package net.dsa.scitHub.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 색인용 토크나이저
+ * - 한글/일본어(히라가나, 가타카나)/한자 구간은 음절 단위 유니그램 + 바이그램으로 분해
+ * - 그 외 문자/숫자 구간은 소문자 단어 단위로 분해
+ * - NFKC 정규화로 전각/반각 차이를 없앰
+ */
+public final class NgramTokenizer {
+
+    /** 색인 검색에 필요한 최소 글자 수 (바이그램 크기) */
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern HTML_ENTITY = Pattern.compile("&[a-zA-Z#0-9]+;");
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 검색어의 한 조각
+     * @param text   토큰 문자열
+     * @param prefix true면 접두어 일치로 찾음 (영문/숫자 단어)
+     */
+    public record QueryTerm(String text, boolean prefix) {
+    }
+
+    /**
+     * 색인할 문서를 토큰 목록으로 분해 (중복 포함, 빈도 계산용)
+     * @param text 원문
+     * @return 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (Run run : split(text)) {
+            if (run.cjk()) {
+                String s = run.text();
+                int[] cps = s.codePoints().toArray();
+                for (int i = 0; i < cps.length; i++) {
+                    tokens.add(new String(cps, i, 1));
+                    if (i + 1 < cps.length) {
+                        tokens.add(new String(cps, i, 2));
+                    }
+                }
+            } else {
+                tokens.add(run.text());
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어를 검색용 토큰 목록으로 분해
+     * - CJK 구간은 바이그램(1글자면 유니그램), 영문/숫자 단어는 접두어 검색
+     * @param query 검색어
+     * @return 중복이 제거된 검색 토큰 목록
+     */
+    public static List<QueryTerm> tokenizeQuery(String query) {
+        List<QueryTerm> terms = new ArrayList<>();
+        for (Run run : split(query)) {
+            if (run.cjk()) {
+                int[] cps = run.text().codePoints().toArray();
+                if (cps.length == 1) {
+                    addDistinct(terms, new QueryTerm(new String(cps, 0, 1), false));
+                }
+                for (int i = 0; i + 1 < cps.length; i++) {
+                    addDistinct(terms, new QueryTerm(new String(cps, i, 2), false));
+                }
+            } else {
+                addDistinct(terms, new QueryTerm(run.text(), true));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인으로 찾기에 너무 짧은 검색어인지 확인 (문자/숫자가 MIN_QUERY_LENGTH 글자 미만)
+     * - 한 글자 검색은 부분 문자열 일치를 기대하므로 호출 측에서 LIKE 검색을 사용
+     * @param query 검색어
+     * @return 너무 짧으면 true
+     */
+    public static boolean isShortQuery(String query) {
+        if (query == null) {
+            return true;
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC);
+        long length = normalized.codePoints().filter(Character::isLetterOrDigit).limit(MIN_QUERY_LENGTH).count();
+        return length < MIN_QUERY_LENGTH;
+    }
+
+    /**
+     * HTML 태그와 엔티티를 제거 (CKEditor 본문 색인용)
+     * @param html 원문
+     * @return 태그가 제거된 문자열
+     */
+    public static String stripHtml(String html) {
+        if (html == null) {
+            return "";
+        }
+        String text = HTML_TAG.matcher(html).replaceAll(" ");
+        return HTML_ENTITY.matcher(text).replaceAll(" ");
+    }
+
+    private static void addDistinct(List<QueryTerm> terms, QueryTerm term) {
+        if (!terms.contains(term)) {
+            terms.add(term);
+        }
+    }
+
+    /** 같은 종류의 문자가 이어지는 구간 */
+    private record Run(String text, boolean cjk) {
+    }
+
+    private static List<Run> split(String text) {
+        List<Run> runs = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+
+        StringBuilder current = new StringBuilder();
+        Boolean currentCjk = null;
+        int i = 0;
+        while (i < normalized.length()) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (!Character.isLetterOrDigit(cp)) {
+                flush(runs, current, currentCjk);
+                currentCjk = null;
+                continue;
+            }
+            boolean cjk = isCjk(cp);
+            if (currentCjk != null && currentCjk != cjk) {
+                flush(runs, current, currentCjk);
+            }
+            currentCjk = cjk;
+            current.appendCodePoint(cp);
+        }
+        flush(runs, current, currentCjk);
+        return runs;
+    }
+
+    private static void flush(List<Run> runs, StringBuilder current, Boolean cjk) {
+        if (current.length() > 0) {
+            runs.add(new Run(current.toString(), Boolean.TRUE.equals(cjk)));
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        // 장음 부호(ー)와 반복 부호(々)는 공통 문자지만 일본어 단어의 일부로 취급
+        if (cp == 0x30FC || cp == 0x3005) {
+            return true;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || script == Character.UnicodeScript.HAN;
+    }
+}
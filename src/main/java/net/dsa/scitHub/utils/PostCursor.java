@@ -0,0 +1,42 @@
+package net.dsa.scitHub.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 키셋 페이징용 커서 (createdAt, postId)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ * @param createdAt 기준 게시글 작성 시간
+ * @param postId    기준 게시글 ID (같은 시간대의 순서 보장용)
+ */
+public record PostCursor(LocalDateTime createdAt, Integer postId) {
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * 커서를 불투명 문자열로 변환
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 문자열을 커서로 복원
+     * @param cursor 인코딩된 커서
+     * @return 복원된 커서
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)), Integer.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package net.dsa.scitHub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dsa.scitHub.dto.NotificationEvent;
+import net.dsa.scitHub.dto.NotificationLogRow;
+import net.dsa.scitHub.entity.user.NotificationOutbox;
+import net.dsa.scitHub.enums.NotificationType;
+import net.dsa.scitHub.repository.user.NotificationOutboxRepository;
+import net.dsa.scitHub.repository.user.NotificationRepository;
+
+class NotificationOutboxDispatcherTest {
+
+    private NotificationOutboxRepository nor;
+    private NotificationRepository nr;
+    private RecordingBroker broker;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    /** 발행 시도 순서를 기록하고, 지정한 알림은 실패시키는 브로커 */
+    private static class RecordingBroker implements NotificationBroker {
+        final List<NotificationEvent> attempted = new ArrayList<>();
+        final Set<Integer> failing = new HashSet<>();
+
+        @Override
+        public void publish(NotificationEvent event) {
+            attempted.add(event);
+            if (failing.contains(event.notification().getNotificationId())) {
+                throw new IllegalStateException("broker down");
+            }
+        }
+
+        @Override
+        public void subscribe(Consumer<NotificationEvent> listener) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        nor = mock(NotificationOutboxRepository.class);
+        nr = mock(NotificationRepository.class);
+        broker = new RecordingBroker();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(nor, nr, broker, new TransactionTemplate(), meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void backoffDoublesUntilCap() {
+        assertThat(NotificationOutboxDispatcher.backoffSeconds(1)).isEqualTo(1L);
+        assertThat(NotificationOutboxDispatcher.backoffSeconds(2)).isEqualTo(2L);
+        assertThat(NotificationOutboxDispatcher.backoffSeconds(3)).isEqualTo(4L);
+        assertThat(NotificationOutboxDispatcher.backoffSeconds(9)).isEqualTo(256L);
+        assertThat(NotificationOutboxDispatcher.backoffSeconds(10)).isEqualTo(300L);
+        assertThat(NotificationOutboxDispatcher.backoffSeconds(100)).isEqualTo(300L);
+    }
+
+    @Test
+    void publishesInOutboxOrderAndDeletesDelivered() {
+        NotificationOutbox first = outbox(1, NotificationEvent.Kind.CREATED, 10, 1);
+        NotificationOutbox second = outbox(2, NotificationEvent.Kind.UPDATED, 10, 1);
+        NotificationOutbox third = outbox(3, NotificationEvent.Kind.CREATED, 11, 2);
+        givenDue(List.of(first, second, third), List.of(row(10, 1), row(11, 2)));
+
+        int handled = dispatcher.dispatchBatch();
+
+        assertThat(handled).isEqualTo(3);
+        assertThat(broker.attempted.stream().map(NotificationEvent::kind).toList()).containsExactly(
+            NotificationEvent.Kind.CREATED, NotificationEvent.Kind.UPDATED, NotificationEvent.Kind.CREATED);
+        assertThat(broker.attempted.stream().map(event -> event.notification().getNotificationId()).toList())
+            .containsExactly(10, 10, 11);
+        verify(nor).deleteAllInBatch(List.of(first, second, third));
+        assertThat(meterRegistry.counter("notification.outbox.dispatched").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void failureHoldsBackLaterEventsOfSameRecipientOnly() {
+        NotificationOutbox failed = outbox(1, NotificationEvent.Kind.CREATED, 10, 1);
+        NotificationOutbox heldBack = outbox(2, NotificationEvent.Kind.UPDATED, 10, 1);
+        NotificationOutbox other = outbox(3, NotificationEvent.Kind.CREATED, 11, 2);
+        givenDue(List.of(failed, heldBack, other), List.of(row(10, 1), row(11, 2)));
+        broker.failing.add(10);
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        // 같은 수신자의 뒤 이벤트는 시도하지 않고, 다른 수신자의 이벤트는 그대로 전달
+        assertThat(broker.attempted.stream().map(event -> event.notification().getNotificationId()).toList())
+            .containsExactly(10, 11);
+        verify(nor).deleteAllInBatch(List.of(other));
+
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("broker down");
+        assertThat(failed.getFailedAt()).isNull();
+        assertThat(failed.getNextAttemptAt()).isBetween(before.plusSeconds(1), after.plusSeconds(1));
+        assertThat(heldBack.getAttempts()).isEqualTo(0);
+        assertThat(heldBack.getNextAttemptAt()).isNull();
+        assertThat(meterRegistry.counter("notification.outbox.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        NotificationOutbox outbox = outbox(1, NotificationEvent.Kind.CREATED, 10, 1);
+        outbox.setAttempts(2);
+        givenDue(List.of(outbox), List.of(row(10, 1)));
+        broker.failing.add(10);
+
+        dispatcher.dispatchBatch();
+
+        assertThat(outbox.getAttempts()).isEqualTo(3);
+        assertThat(outbox.getFailedAt()).isNotNull();
+        assertThat(outbox.getNextAttemptAt()).isNull();
+        verify(nor).deleteAllInBatch(List.of());
+    }
+
+    @Test
+    void dropsEventsOfDeletedNotifications() {
+        NotificationOutbox orphan = outbox(1, NotificationEvent.Kind.CREATED, 10, 1);
+        givenDue(List.of(orphan), List.of());
+
+        dispatcher.dispatchBatch();
+
+        assertThat(broker.attempted).isEmpty();
+        verify(nor).deleteAllInBatch(List.of(orphan));
+    }
+
+    @Test
+    void returnsZeroWhenNothingIsDue() {
+        givenDue(List.of(), List.of());
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(0);
+        assertThat(broker.attempted).isEmpty();
+    }
+
+    private void givenDue(List<NotificationOutbox> due, List<NotificationLogRow> rows) {
+        when(nor.findDue(any(LocalDateTime.class), any(Pageable.class))).thenReturn(due);
+        when(nr.findLogByIds(anyCollection())).thenReturn(rows);
+    }
+
+    private static NotificationOutbox outbox(int outboxId, NotificationEvent.Kind kind, int notificationId, int recipientId) {
+        return NotificationOutbox.builder()
+            .outboxId(outboxId)
+            .kind(kind)
+            .notificationId(notificationId)
+            .orderingKey(recipientId)
+            .build();
+    }
+
+    private static NotificationLogRow row(int notificationId, int recipientId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new NotificationLogRow(notificationId, recipientId, null, NotificationType.NEW_LIKE_ON_POST,
+            "title", "content", "/community/readPost?postId=1", false, 1, now, now);
+    }
+}
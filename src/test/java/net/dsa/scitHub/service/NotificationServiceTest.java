@@ -0,0 +1,153 @@
+package net.dsa.scitHub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import net.dsa.scitHub.dto.NotificationEvent;
+import net.dsa.scitHub.entity.board.Board;
+import net.dsa.scitHub.entity.board.Comment;
+import net.dsa.scitHub.entity.board.Post;
+import net.dsa.scitHub.entity.user.Notification;
+import net.dsa.scitHub.entity.user.User;
+import net.dsa.scitHub.enums.NotificationType;
+import net.dsa.scitHub.repository.board.SseEmitterRepository;
+import net.dsa.scitHub.repository.user.NotificationReadMarkerRepository;
+import net.dsa.scitHub.repository.user.NotificationRepository;
+
+class NotificationServiceTest {
+
+    private static final int RECIPIENT_ID = 1;
+    private static final int AGGREGATE_ID = 100;
+    private static final int NEW_ID = 101;
+
+    private NotificationRepository nr;
+    private NotificationOutboxDispatcher outbox;
+    private NotificationService ns;
+
+    private final User recipient = User.builder().userId(RECIPIENT_ID).build();
+    private final Board board = Board.builder().boardId(3).name("free").build();
+    private final Post post = Post.builder().postId(7).title("Spring入門").user(recipient).board(board).build();
+
+    @BeforeEach
+    void setUp() {
+        nr = mock(NotificationRepository.class);
+        outbox = mock(NotificationOutboxDispatcher.class);
+        ns = new NotificationService(nr, mock(NotificationReadMarkerRepository.class), mock(SseEmitterRepository.class),
+            mock(SseSender.class), mock(BoardRegistry.class), mock(NotificationInbox.class), mock(TransactionTemplate.class),
+            mock(NotificationBroker.class), outbox);
+        ReflectionTestUtils.setField(ns, "coalesceMinutes", 10L);
+    }
+
+    @Test
+    void likeFromNewActorIsCounted() {
+        Notification aggregate = givenOpenAggregate(NotificationType.NEW_LIKE_ON_POST, 1, 5);
+
+        ns.send(recipient, NotificationType.NEW_LIKE_ON_POST, post, user(6));
+
+        assertThat(aggregate.getAggregateCount()).isEqualTo(2);
+        assertThat(aggregate.getTitle()).isEqualTo("2人があなたの投稿に「いいね！」しました。");
+        assertThat(aggregate.getLastActorId()).isEqualTo(6);
+        verify(outbox).append(NotificationEvent.Kind.UPDATED, AGGREGATE_ID, RECIPIENT_ID);
+        verify(nr, never()).save(any());
+    }
+
+    @Test
+    void repeatFromSameActorUpdatesContentWithoutCounting() {
+        Notification aggregate = givenOpenAggregate(NotificationType.NEW_COMMENT_ON_POST, 2, 6);
+        String title = aggregate.getTitle();
+        LocalDateTime previousUpdate = aggregate.getUpdatedAt();
+        Comment comment = Comment.builder().commentId(9).user(user(6)).post(post).content("追記です").build();
+
+        ns.send(recipient, NotificationType.NEW_COMMENT_ON_POST, comment);
+
+        // 같은 사용자의 연속 댓글은 수를 늘리지 않지만, 최신 댓글 내용으로 갱신해 다시 발송
+        assertThat(aggregate.getAggregateCount()).isEqualTo(2);
+        assertThat(aggregate.getTitle()).isEqualTo(title);
+        assertThat(aggregate.getContent()).isEqualTo("追記です");
+        assertThat(aggregate.getComment()).isSameAs(comment);
+        assertThat(aggregate.getUpdatedAt()).isAfter(previousUpdate);
+        verify(outbox).append(NotificationEvent.Kind.UPDATED, AGGREGATE_ID, RECIPIENT_ID);
+    }
+
+    @Test
+    void aggregateReadBeforeLockingStartsNewNotification() {
+        Notification aggregate = givenOpenAggregate(NotificationType.NEW_LIKE_ON_POST, 1, 5);
+        aggregate.setIsRead(true);      // 조회 후 잠그기 전에 읽음 처리됨
+        givenSaveReturnsNotification();
+
+        ns.send(recipient, NotificationType.NEW_LIKE_ON_POST, post, user(6));
+
+        assertThat(aggregate.getAggregateCount()).isEqualTo(1);
+        verify(nr).save(any(Notification.class));
+        verify(outbox).append(NotificationEvent.Kind.CREATED, NEW_ID, RECIPIENT_ID);
+        verify(outbox, never()).append(eq(NotificationEvent.Kind.UPDATED), any(), any());
+    }
+
+    @Test
+    void lockTimeoutStartsNewNotificationInsteadOfFailing() {
+        when(nr.findOpenAggregateIds(eq(RECIPIENT_ID), eq(NotificationType.NEW_LIKE_ON_POST), eq(post.getPostId()),
+                any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(AGGREGATE_ID));
+        when(nr.findByIdForUpdate(AGGREGATE_ID)).thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+        givenSaveReturnsNotification();
+
+        ns.send(recipient, NotificationType.NEW_LIKE_ON_POST, post, user(6));
+
+        verify(outbox).append(NotificationEvent.Kind.CREATED, NEW_ID, RECIPIENT_ID);
+    }
+
+    @Test
+    void ownActionCreatesNothing() {
+        ns.send(recipient, NotificationType.NEW_LIKE_ON_POST, post, recipient);
+
+        verifyNoInteractions(nr, outbox);
+    }
+
+    private Notification givenOpenAggregate(NotificationType type, int count, int lastActorId) {
+        Notification aggregate = Notification.builder()
+            .notificationId(AGGREGATE_ID)
+            .user(recipient)
+            .notificationType(type)
+            .post(post)
+            .title("既存の通知")
+            .content("以前の内容")
+            .aggregateCount(count)
+            .lastActorId(lastActorId)
+            .createdAt(LocalDateTime.now().minusMinutes(2))
+            .updatedAt(LocalDateTime.now().minusMinutes(1))
+            .build();
+        when(nr.findOpenAggregateIds(eq(RECIPIENT_ID), eq(type), eq(post.getPostId()), any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(AGGREGATE_ID));
+        when(nr.findByIdForUpdate(AGGREGATE_ID)).thenReturn(Optional.of(aggregate));
+        return aggregate;
+    }
+
+    private void givenSaveReturnsNotification() {
+        when(nr.save(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            notification.setNotificationId(NEW_ID);
+            return notification;
+        });
+    }
+
+    private static User user(int userId) {
+        return User.builder().userId(userId).build();
+    }
+}
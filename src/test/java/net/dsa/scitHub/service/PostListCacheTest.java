@@ -0,0 +1,116 @@
+package net.dsa.scitHub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dsa.scitHub.dto.PostDTO;
+
+class PostListCacheTest {
+
+    private PostListCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostListCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "cachedPages", 3);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+    }
+
+    @Test
+    void secondReadIsServedFromCache() {
+        PostListCache.Key key = key(1, 0);
+
+        Page<PostDTO> first = cache.get(key, this::load);
+        Page<PostDTO> second = cache.get(key, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void pagesBeyondCachedRangeAreNotCached() {
+        assertThat(cache.keyOf("community", 1, null, null, PageRequest.of(3, 10))).isNull();
+
+        cache.get(null, this::load);
+        cache.get(null, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void invalidateBoardDropsOnlyThatBoard() {
+        cache.get(key(1, 0), this::load);
+        cache.get(key(2, 0), this::load);
+
+        cache.invalidateBoard(1);
+        cache.get(key(1, 0), this::load);
+        cache.get(key(2, 0), this::load);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void resultLoadedAcrossInvalidationIsNotStored() {
+        PostListCache.Key key = key(1, 0);
+
+        // 읽는 도중 같은 게시판에 글이 등록됨 → 세대 번호가 바뀌어 오래된 결과를 저장하지 않음
+        cache.get(key, () -> {
+            cache.invalidateBoard(1);
+            return load();
+        });
+        cache.get(key, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        PostListCache.Key first = key(1, 0);
+        PostListCache.Key second = key(1, 1);
+        PostListCache.Key third = key(1, 2);
+
+        cache.get(first, this::load);
+        cache.get(second, this::load);
+        cache.get(first, this::load);     // first를 최근 사용으로 만듦
+        cache.get(third, this::load);     // 최대 2건 → second가 밀려남
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(first, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(second, this::load);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void keyIgnoresSearchTypeWhenListing() {
+        PostListCache.Key listing = cache.keyOf("community", 1, "title", " ", PageRequest.of(0, 10));
+        PostListCache.Key search = cache.keyOf("community", 1, "title", " java ", PageRequest.of(0, 10));
+
+        assertThat(listing).isEqualTo(cache.keyOf("community", 1, null, null, PageRequest.of(0, 10)));
+        assertThat(search.keyword()).isEqualTo("java");
+        assertThat(search).isNotEqualTo(listing);
+    }
+
+    private PostListCache.Key key(int boardId, int page) {
+        return cache.keyOf("community", boardId, null, null, PageRequest.of(page, 10));
+    }
+
+    private Page<PostDTO> load() {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of());
+    }
+}
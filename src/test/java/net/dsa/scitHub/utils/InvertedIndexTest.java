@@ -0,0 +1,124 @@
+package net.dsa.scitHub.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    enum Field {
+        TITLE, CONTENT
+    }
+
+    private static final Set<Field> ALL = EnumSet.allOf(Field.class);
+
+    /** 메타데이터는 게시판 ID */
+    private InvertedIndex<Field, Integer> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex<>(Field.class, Map.of(
+            Field.TITLE, 3.0,
+            Field.CONTENT, 1.0
+        ));
+    }
+
+    @Test
+    void searchRanksTitleMatchesAboveContentMatches() {
+        index.put(1, 10, Map.of(Field.TITLE, "기초 문법", Field.CONTENT, "자바 입문"));
+        index.put(2, 10, Map.of(Field.TITLE, "자바 입문", Field.CONTENT, "기초 문법"));
+        index.put(3, 10, Map.of(Field.TITLE, "파이썬", Field.CONTENT, "기초"));
+
+        InvertedIndex.Result result = index.search("자바", ALL, meta -> true, 0, 10);
+
+        assertThat(result.ids()).containsExactly(2, 1);
+        assertThat(result.totalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void searchRequiresEveryQueryTerm() {
+        index.put(1, 10, Map.of(Field.TITLE, "Spring Boot 入門"));
+        index.put(2, 10, Map.of(Field.TITLE, "Spring Security"));
+
+        assertThat(index.search("spring 入門", ALL, meta -> true, 0, 10).ids()).containsExactly(1);
+        assertThat(index.search("spring", ALL, meta -> true, 0, 10).ids()).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    void searchMatchesLatinWordsByPrefixOnly() {
+        index.put(1, 10, Map.of(Field.TITLE, "JavaScript"));
+
+        assertThat(index.search("java", ALL, meta -> true, 0, 10).ids()).containsExactly(1);
+        assertThat(index.search("script", ALL, meta -> true, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void searchAppliesFieldsAndMetaFilter() {
+        index.put(1, 10, Map.of(Field.TITLE, "자바", Field.CONTENT, ""));
+        index.put(2, 20, Map.of(Field.TITLE, "자바", Field.CONTENT, ""));
+        index.put(3, 10, Map.of(Field.TITLE, "", Field.CONTENT, "자바"));
+
+        assertThat(index.search("자바", ALL, Integer.valueOf(10)::equals, 0, 10).ids()).containsExactly(1, 3);
+        assertThat(index.search("자바", EnumSet.of(Field.CONTENT), meta -> true, 0, 10).ids()).containsExactly(3);
+    }
+
+    @Test
+    void searchPagesResultsAndKeepsTotalCount() {
+        for (int docId = 1; docId <= 5; docId++) {
+            index.put(docId, 10, Map.of(Field.TITLE, "공지"));
+        }
+
+        // 점수가 같으면 ID가 큰(최근) 문서부터
+        InvertedIndex.Result result = index.search("공지", ALL, meta -> true, 2, 2);
+
+        assertThat(result.ids()).containsExactly(3, 2);
+        assertThat(result.totalCount()).isEqualTo(5);
+    }
+
+    @Test
+    void putReplacesPreviousContent() {
+        index.put(1, 10, Map.of(Field.TITLE, "자바"));
+        index.put(1, 10, Map.of(Field.TITLE, "파이썬"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("자바", ALL, meta -> true, 0, 10).ids()).isEmpty();
+        assertThat(index.search("파이썬", ALL, meta -> true, 0, 10).ids()).containsExactly(1);
+    }
+
+    @Test
+    void removeDropsDocumentFromResults() {
+        index.put(1, 10, Map.of(Field.TITLE, "자바"));
+        index.put(2, 10, Map.of(Field.TITLE, "자바"));
+
+        index.remove(1);
+        index.remove(99);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("자바", ALL, meta -> true, 0, 10).ids()).containsExactly(2);
+    }
+
+    @Test
+    void updateMetaChangesFilterWithoutReindexing() {
+        index.put(1, 10, Map.of(Field.TITLE, "자바"));
+
+        index.updateMeta(1, 20);
+
+        assertThat(index.search("자바", ALL, Integer.valueOf(10)::equals, 0, 10).ids()).isEmpty();
+        assertThat(index.search("자바", ALL, Integer.valueOf(20)::equals, 0, 10).ids()).containsExactly(1);
+    }
+
+    @Test
+    void searchWithEmptyQueryReturnsNothing() {
+        index.put(1, 10, Map.of(Field.TITLE, "자바"));
+
+        InvertedIndex.Result result = index.search(" !? ", ALL, meta -> true, 0, 10);
+
+        assertThat(result.ids()).isEmpty();
+        assertThat(result.totalCount()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package net.dsa.scitHub.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.dsa.scitHub.utils.NgramTokenizer.QueryTerm;
+
+class NgramTokenizerTest {
+
+    @Test
+    void tokenizeSplitsMixedScriptsIntoRuns() {
+        // 한글/한자는 유니그램 + 바이그램, 영문/숫자는 소문자 단어, 전각 문자는 반각으로 정규화
+        List<String> tokens = NgramTokenizer.tokenize("스프링Boot入門 ＡＢＣ 2024年");
+
+        assertThat(tokens).containsExactly(
+            "스", "스프", "프", "프링", "링",
+            "boot",
+            "入", "入門", "門",
+            "abc",
+            "2024",
+            "年");
+    }
+
+    @Test
+    void tokenizeKeepsJapaneseLongVowelInsideWord() {
+        // 반각 가타카나는 NFKC로 전각이 되고, 장음 부호(ー)는 단어를 끊지 않음
+        List<String> tokens = NgramTokenizer.tokenize("ｻｰﾊﾞｰ");
+
+        assertThat(tokens).containsExactly("サ", "サー", "ー", "ーバ", "バ", "バー", "ー");
+    }
+
+    @Test
+    void tokenizeIgnoresPunctuationAndBlankInput() {
+        assertThat(NgramTokenizer.tokenize("Java, Spring!")).containsExactly("java", "spring");
+        assertThat(NgramTokenizer.tokenize("  ")).isEmpty();
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void tokenizeQueryUsesBigramsAndLatinPrefixes() {
+        List<QueryTerm> terms = NgramTokenizer.tokenizeQuery("스프링 입문 Java");
+
+        assertThat(terms).containsExactly(
+            new QueryTerm("스프", false),
+            new QueryTerm("프링", false),
+            new QueryTerm("입문", false),
+            new QueryTerm("java", true));
+    }
+
+    @Test
+    void tokenizeQueryUsesUnigramForSingleCharacterRun() {
+        assertThat(NgramTokenizer.tokenizeQuery("東 京")).containsExactly(
+            new QueryTerm("東", false),
+            new QueryTerm("京", false));
+    }
+
+    @Test
+    void tokenizeQueryRemovesDuplicates() {
+        assertThat(NgramTokenizer.tokenizeQuery("java JAVA 자바자바")).containsExactly(
+            new QueryTerm("java", true),
+            new QueryTerm("자바", false),
+            new QueryTerm("바자", false));
+    }
+
+    @Test
+    void isShortQueryCountsOnlyLettersAndDigits() {
+        assertThat(NgramTokenizer.isShortQuery(null)).isTrue();
+        assertThat(NgramTokenizer.isShortQuery("가")).isTrue();
+        assertThat(NgramTokenizer.isShortQuery(" a! ")).isTrue();
+        assertThat(NgramTokenizer.isShortQuery("ab")).isFalse();
+        assertThat(NgramTokenizer.isShortQuery("東京")).isFalse();
+    }
+
+    @Test
+    void stripHtmlRemovesTagsAndEntities() {
+        assertThat(NgramTokenizer.tokenize(NgramTokenizer.stripHtml("<p>자바&nbsp;<b>入門</b></p>")))
+            .containsExactly("자", "자바", "바", "入", "入門", "門");
+    }
+}
@@ -0,0 +1,70 @@
+package net.dsa.scitHub.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class PostCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 0), 42);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsFractionalSeconds() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 0, 5, 123_000_000), 7);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new PostCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59), Integer.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decodeRejectsNonBase64() {
+        assertThatThrownBy(() -> PostCursor.decode("not a cursor!"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsMissingSeparator() {
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("2025-03-01T12:00")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsTamperedDate() {
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("2025-13-01T12:00_42")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsTamperedPostId() {
+        assertThatThrownBy(() -> PostCursor.decode(encodeRaw("2025-03-01T12:00_42 OR 1=1")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsTruncatedCursor() {
+        String encoded = new PostCursor(LocalDateTime.of(2025, 3, 1, 12, 0), 42).encode();
+
+        assertThatThrownBy(() -> PostCursor.decode(encoded.substring(0, encoded.length() - 3)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}